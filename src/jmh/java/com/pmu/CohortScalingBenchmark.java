@@ -0,0 +1,109 @@
+package com.pmu;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GPA and ranking workloads over generated cohorts of 10^4 to 10^8 enrollments.
+ * The default parameters fit a small heap; larger runs need more memory, e.g.
+ * -Djmh.args="-p enrollments=100000000 -jvmArgs -Xmx16g" (the off-heap GPA workload
+ * needs about 0.8 GB of direct memory at 10^8).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class CohortScalingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Workload {
+
+        @Param({"10000", "1000000"})
+        public long enrollments;
+
+        Student[] students;
+        double[] gpas;
+        OffHeapEnrollmentStore store;
+        GpaLeaderboard leaderboard;
+        int rankCursor;
+        final GpaEngine engine = new GpaEngine();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            CohortGenerator generator = new CohortGenerator(42);
+            int count = (int) generator.studentsForEnrollments(enrollments);
+            students = generator.stream(count).parallel().toArray(Student[]::new);
+            gpas = new double[count];
+            store = generator.toOffHeapStore(count);
+            leaderboard = buildLeaderboard(students);
+        }
+
+        // Walks every ordinal so rankOf does not keep hitting one cached path
+        int nextOrdinal() {
+            int ordinal = rankCursor;
+            rankCursor = ordinal + 1 == students.length ? 0 : ordinal + 1;
+            return ordinal;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            store.close();
+        }
+    }
+
+    @Benchmark
+    public double[] parallelGpa(Workload workload) {
+        workload.engine.computeAll(workload.students, workload.gpas);
+        return workload.gpas;
+    }
+
+    @Benchmark
+    public double[] offHeapGpa(Workload workload) {
+        workload.store.computeAllGpas(workload.gpas);
+        return workload.gpas;
+    }
+
+    /**
+     * Cost of ranking the whole cohort from scratch: a new Cohort and treap per call.
+     */
+    @Benchmark
+    public GpaLeaderboard leaderboardBuild(Workload workload) {
+        return buildLeaderboard(workload.students);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] leaderboardTop100(Workload workload) {
+        return workload.leaderboard.topK(100);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int leaderboardRankOf(Workload workload) {
+        return workload.leaderboard.rankOf(workload.nextOrdinal());
+    }
+
+    private static GpaLeaderboard buildLeaderboard(Student[] students) {
+        Cohort cohort = new Cohort();
+        GpaLeaderboard leaderboard = new GpaLeaderboard();
+        cohort.addListener(leaderboard);
+        for (Student student : students) {
+            cohort.add(student);
+        }
+        return leaderboard;
+    }
+}
@@ -0,0 +1,62 @@
+package com.pmu;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a Course (new vs interned) and of reading its grade points.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseBenchmark {
+
+    private static final String[] NAMES = {"Math", "Java", "Physics", "History", "Art", "Chemistry", "Biology", "Music"};
+    private static final String[] LETTERS = {"A", "B", "C", "D", "F", "a", "", "X"};
+
+    private Course[] courses;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        courses = new Course[NAMES.length];
+        for (int i = 0; i < courses.length; i++) {
+            courses[i] = new Course(NAMES[i], 1 + i % 6, LETTERS[i]);
+        }
+    }
+
+    @Benchmark
+    public Course construct() {
+        int i = next();
+        return new Course(NAMES[i], 1 + i % 6, LETTERS[i]);
+    }
+
+    @Benchmark
+    public Course interned() {
+        int i = next();
+        return Course.of(NAMES[i], 1 + i % 6, LETTERS[i]);
+    }
+
+    @Benchmark
+    public double getGradePoint() {
+        return courses[next()].getGradePoint();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (NAMES.length - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,78 @@
+package com.pmu;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GradeBitmapIndex queries against a scan over every Student.getCourses(), for
+ * "any F in a 4+ credit course" or "all A's".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeBitmapIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    public int studentCount;
+
+    private Cohort cohort;
+    private GradeBitmapIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cohort = new Cohort();
+        index = new GradeBitmapIndex();
+        cohort.addListener(index);
+
+        Random random = new Random(42);
+        String[] letters = {"A", "A", "B", "B", "C", "D", "F"};
+        for (int i = 0; i < studentCount; i++) {
+            int ordinal = cohort.add(new Student("S" + i, "student" + i));
+            for (int j = 0; j < 8; j++) {
+                cohort.enroll(ordinal, Course.of("Course" + random.nextInt(40), 1 + random.nextInt(6),
+                        letters[random.nextInt(letters.length)]));
+            }
+        }
+    }
+
+    @Benchmark
+    public BitSet scan() {
+        BitSet result = new BitSet();
+        for (int i = 0; i < cohort.size(); i++) {
+            boolean onlyA = true;
+            boolean heavyF = false;
+            for (Course course : cohort.get(i).getCourses()) {
+                onlyA &= course.getGrade() == Grade.A;
+                heavyF |= course.getGrade() == Grade.F && course.getCreditHours() >= 4;
+            }
+            if (heavyF || (onlyA && !cohort.get(i).getCourses().isEmpty())) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BitSet bitmap() {
+        BitSet result = index.withGrade(Grade.F, 4, 6);
+        result.or(index.withOnly(Grade.A));
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package com.pmu;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of GradeCalculator.calculateLetterGrade over different score distributions, and of
+ * the bulk SCORE_TABLE path against the Vector API path on the same scores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeCalculatorBenchmark {
+
+    private static final int SCORE_COUNT = 4096;
+
+    /**
+     * uniform: 0-100; passing: 60-100; boundary: only 59/60/69/70/...; invalid: mostly out of range
+     */
+    @Param({"uniform", "passing", "boundary", "invalid"})
+    public String distribution;
+
+    private final GradeCalculator calculator = new GradeCalculator();
+    private int[] scores;
+    private byte[] grades;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int[] boundaries = {59, 60, 69, 70, 79, 80, 89, 90, 100, 0};
+        scores = new int[SCORE_COUNT];
+        for (int i = 0; i < SCORE_COUNT; i++) {
+            scores[i] = switch (distribution) {
+                case "uniform" -> random.nextInt(101);
+                case "passing" -> 60 + random.nextInt(41);
+                case "boundary" -> boundaries[random.nextInt(boundaries.length)];
+                case "invalid" -> random.nextInt(10) == 0 ? random.nextInt(101) : 101 + random.nextInt(1000);
+                default -> throw new IllegalStateException("Unknown distribution: " + distribution);
+            };
+        }
+        grades = new byte[SCORE_COUNT];
+    }
+
+    @Benchmark
+    public String calculateLetterGrade() {
+        cursor = (cursor + 1) & (SCORE_COUNT - 1);
+        return calculator.calculateLetterGrade(scores[cursor]);
+    }
+
+    @Benchmark
+    public byte[] calculateLetterGradesBatch() {
+        calculator.calculateLetterGrades(scores, grades);
+        return grades;
+    }
+
+    // Falls back to the table path unless the fork runs with --add-modules jdk.incubator.vector
+    @Benchmark
+    public byte[] calculateLetterGradesVectorized() {
+        calculator.calculateLetterGradesVectorized(scores, grades);
+        return grades;
+    }
+}
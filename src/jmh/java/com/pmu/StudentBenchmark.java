@@ -0,0 +1,105 @@
+package com.pmu;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Student.enrollCourse and calculateGPA for students with 1 to 10k courses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentBenchmark {
+
+    /** enrollCourse calls per measured invocation, one per fresh student. */
+    static final int ENROLL_BATCH = 250;
+
+    private static final String[] LETTERS = {"A", "B", "C", "D", "F"};
+
+    @Param({"1", "10", "100", "10000"})
+    public int courseCount;
+
+    private Student student;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        student = newStudent(courseCount);
+    }
+
+    /**
+     * Fresh students with exactly courseCount courses, one batch per warmup and measurement
+     * iteration. They are all built once per trial, so building them is neither timed nor
+     * charged to the operation by -prof gc. At courseCount=10000 this holds about 40M course
+     * references; lower -wi/-i or add -jvmArgsAppend -Xmx if the heap is small.
+     */
+    @State(Scope.Thread)
+    public static class FreshStudents {
+
+        private final Course next = Course.of("Elective", 3, "B");
+        private Student[] students;
+        private int index;
+
+        @Setup(Level.Trial)
+        public void setUp(StudentBenchmark benchmark, BenchmarkParams params) {
+            // Compile enrollCourse before the first timed batch; single shots alone are too few
+            for (int i = 0; i < 20_000; i++) {
+                new Student("S000", "warmup").enrollCourse(next);
+            }
+            int batches = params.getWarmup().getCount() + params.getMeasurement().getCount();
+            students = new Student[batches * ENROLL_BATCH];
+            for (int i = 0; i < students.length; i++) {
+                students[i] = newStudent(benchmark.courseCount);
+            }
+            index = 0;
+        }
+    }
+
+    @Benchmark
+    public double calculateGPA() {
+        return student.calculateGPA();
+    }
+
+    /**
+     * One enrollment on a student that has exactly courseCount courses. Each invocation enrolls
+     * into ENROLL_BATCH fresh students and is scored per enrollment.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(ENROLL_BATCH)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public void enrollCourse(FreshStudents fresh) {
+        Student[] students = fresh.students;
+        int end = fresh.index + ENROLL_BATCH;
+        for (int i = fresh.index; i < end; i++) {
+            students[i].enrollCourse(fresh.next);
+        }
+        fresh.index = end;
+    }
+
+    private static Student newStudent(int courseCount) {
+        Student student = new Student("S001", "benchmark");
+        for (int i = 0; i < courseCount; i++) {
+            student.enrollCourse(Course.of("Course" + (i % 50), 1 + i % 6, LETTERS[i % LETTERS.length]));
+        }
+        return student;
+    }
+}
@@ -0,0 +1,89 @@
+package com.pmu;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Students numbered by a dense ordinal (0, 1, 2, ... in the order they were added), with
+ * listeners notified of every addition and enrollment. Indexes refer to students by ordinal,
+ * which fits in an int array or a bitmap where a Student reference would not.
+ *
+ * Enroll through {@link #enroll(int, Course)}; calling Student.enrollCourse directly leaves
+ * the listeners out of date. Not thread-safe.
+ */
+public class Cohort {
+
+    private final List<Student> students = new ArrayList<>();
+    private final List<EnrollmentListener> listeners = new ArrayList<>();
+
+    public Cohort() {
+    }
+
+    public Cohort(Iterable<Student> students) {
+        for (Student student : students) {
+            add(student);
+        }
+    }
+
+    /**
+     * Adds the student and returns its ordinal.
+     */
+    public int add(Student student) {
+        if (student == null) {
+            throw new IllegalArgumentException("student must not be null");
+        }
+        int ordinal = students.size();
+        students.add(student);
+        for (EnrollmentListener listener : listeners) {
+            listener.studentAdded(ordinal, student);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Enrolls the course on the student with this ordinal; a null course is ignored.
+     */
+    public void enroll(int ordinal, Course course) {
+        Student student = get(ordinal);
+        if (course == null) {
+            return;
+        }
+        student.enrollCourse(course);
+        for (EnrollmentListener listener : listeners) {
+            listener.courseEnrolled(ordinal, student, course);
+        }
+    }
+
+    /**
+     * Registers the listener and reports every student already in the cohort to it.
+     */
+    public void addListener(EnrollmentListener listener) {
+        listeners.add(listener);
+        for (int i = 0; i < students.size(); i++) {
+            listener.studentAdded(i, students.get(i));
+        }
+    }
+
+    public void removeListener(EnrollmentListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if no student has this ordinal
+     */
+    public Student get(int ordinal) {
+        return students.get(ordinal);
+    }
+
+    public int size() {
+        return students.size();
+    }
+
+    /**
+     * Read-only view of the students, indexed by ordinal.
+     */
+    public List<Student> getStudents() {
+        return Collections.unmodifiableList(students);
+    }
+}
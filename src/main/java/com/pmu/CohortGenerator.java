@@ -0,0 +1,187 @@
+package com.pmu;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic synthetic cohorts for load and scaling tests.
+ *
+ * The same seed always produces the same students, and student i depends only on the seed
+ * and i, so a cohort can be generated in parallel or in pieces and still match. Each student
+ * has a normally distributed ability; each course in the catalog has fixed credit hours
+ * (mostly 3 or 4) and a difficulty, and popular courses are picked more often. Grades come
+ * from ability, difficulty and noise through the usual 90/80/70/60 score cutoffs, so one
+ * student's grades are correlated the way real transcripts are.
+ */
+public class CohortGenerator {
+
+    public static final int DEFAULT_CATALOG_SIZE = 400;
+    public static final double DEFAULT_MEAN_COURSES = 10.0;
+
+    private static final String[] SUBJECTS = {
+            "MATH", "CS", "PHYS", "CHEM", "BIO", "HIST", "ENGL", "ECON", "ART", "MUS", "PHIL", "STAT"};
+    // Cumulative weights for 1..6 credit hours: 5%, 10%, 45%, 30%, 5%, 5%
+    private static final double[] CREDIT_WEIGHTS = {0.05, 0.15, 0.60, 0.90, 0.95, 1.0};
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final double meanCourses;
+    private final String[] courseNames;
+    private final int[] courseCredits;
+    private final double[] courseDifficulty;
+    private final GradeCalculator calculator = new GradeCalculator();
+
+    public CohortGenerator(long seed) {
+        this(seed, DEFAULT_CATALOG_SIZE, DEFAULT_MEAN_COURSES);
+    }
+
+    /**
+     * @param seed        seed for every random choice
+     * @param catalogSize number of distinct courses
+     * @param meanCourses average number of courses per student
+     */
+    public CohortGenerator(long seed, int catalogSize, double meanCourses) {
+        if (catalogSize < 1) {
+            throw new IllegalArgumentException("catalogSize must be at least 1");
+        }
+        if (!(meanCourses >= 1.0)) {
+            throw new IllegalArgumentException("meanCourses must be at least 1");
+        }
+        this.seed = seed;
+        this.meanCourses = meanCourses;
+        this.courseNames = new String[catalogSize];
+        this.courseCredits = new int[catalogSize];
+        this.courseDifficulty = new double[catalogSize];
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < catalogSize; i++) {
+            courseNames[i] = SUBJECTS[i % SUBJECTS.length] + (100 + i / SUBJECTS.length);
+            double r = random.nextDouble();
+            int credits = 1;
+            while (r >= CREDIT_WEIGHTS[credits - 1]) {
+                credits++;
+            }
+            courseCredits[i] = credits;
+            courseDifficulty[i] = random.nextDouble(-8.0, 8.0);
+        }
+    }
+
+    /**
+     * Number of students needed for about this many enrollments.
+     */
+    public long studentsForEnrollments(long enrollments) {
+        return Math.max(1, Math.round(enrollments / meanCourses));
+    }
+
+    /**
+     * The student at this position in the cohort; always the same for the same seed.
+     */
+    public Student student(long index) {
+        SplittableRandom random = new SplittableRandom(mix(seed + (index + 1) * GOLDEN_GAMMA));
+        Student student = new Student(idOf(index), "Student " + index);
+        double ability = random.nextGaussian();
+        int courses = courseCount(random);
+        for (int i = 0; i < courses; i++) {
+            int course = pickCourse(random);
+            int score = (int) Math.round(79 + ability * 9 - courseDifficulty[course] + random.nextGaussian() * 6);
+            String letter = calculator.calculateLetterGrade(Math.max(0, Math.min(100, score)));
+            student.enrollCourse(Course.of(courseNames[course], courseCredits[course], letter));
+        }
+        return student;
+    }
+
+    /**
+     * Students 0 to count-1 in order; sequential unless made parallel by the caller.
+     */
+    public Stream<Student> stream(long count) {
+        return LongStream.range(0, count).mapToObj(this::student);
+    }
+
+    public void generate(long count, Consumer<Student> sink) {
+        for (long i = 0; i < count; i++) {
+            sink.accept(student(i));
+        }
+    }
+
+    /**
+     * Writes students 0 to count-1 as a roster CSV (with header) and returns the number of rows.
+     */
+    public long writeCsv(Writer out, long count) throws IOException {
+        StringBuilder line = new StringBuilder(128);
+        out.write(RosterFormat.HEADER);
+        out.write('\n');
+        long rows = 0;
+        for (long i = 0; i < count; i++) {
+            Student student = student(i);
+            for (Course course : student.getCourses()) {
+                line.setLength(0);
+                line.append(student.getId()).append(',').append(student.getName()).append(',')
+                        .append(course.getCourseName()).append(',').append(course.getCreditHours()).append(',')
+                        .append(course.getLetterGrade()).append('\n');
+                out.append(line);
+                rows++;
+            }
+        }
+        out.flush();
+        return rows;
+    }
+
+    /**
+     * Writes students 0 to count-1 to a binary roster snapshot.
+     */
+    public void writeSnapshot(Path file, long count) throws IOException {
+        try (RosterSnapshot.Writer writer = new RosterSnapshot.Writer(file)) {
+            for (long i = 0; i < count; i++) {
+                writer.write(student(i));
+            }
+        }
+    }
+
+    /**
+     * Loads students 0 to count-1 into an off-heap store, for workloads too large for Student objects.
+     */
+    public OffHeapEnrollmentStore toOffHeapStore(int count) {
+        OffHeapEnrollmentStore store = new OffHeapEnrollmentStore(
+                (int) Math.min(OffHeapEnrollmentStore.MAX_CAPACITY, (long) (count * meanCourses * 1.1) + 16));
+        try {
+            for (int i = 0; i < count; i++) {
+                store.append(i, student(i));
+            }
+        } catch (RuntimeException e) {
+            store.close();
+            throw e;
+        }
+        return store;
+    }
+
+    private int courseCount(SplittableRandom random) {
+        // Normal around the mean with a spread of a third of it, at least one course
+        return Math.max(1, (int) Math.round(meanCourses + random.nextGaussian() * meanCourses / 3));
+    }
+
+    // Squaring a uniform value skews picks toward the low-numbered, popular courses
+    private int pickCourse(SplittableRandom random) {
+        double r = random.nextDouble();
+        return (int) (r * r * courseNames.length);
+    }
+
+    private static String idOf(long index) {
+        String digits = Long.toString(index);
+        StringBuilder id = new StringBuilder(10).append('S');
+        for (int i = digits.length(); i < 9; i++) {
+            id.append('0');
+        }
+        return id.append(digits).toString();
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,153 @@
+package com.pmu;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * Thread-safe registry and enrollment front end for concurrent request threads.
+ *
+ * Students live in a ConcurrentHashMap keyed by id. Each student is guarded by one of a
+ * fixed set of striped StampedLocks, so enrollments on different students rarely contend,
+ * and GPA reads use optimistic reads that never block writers. A GPA read always sees the
+ * course list and the running totals from the same point in time.
+ *
+ * Students registered here must only be changed through this service; calling
+ * Student.enrollCourse directly bypasses the locks.
+ */
+public class ConcurrentEnrollmentService {
+
+    private final ConcurrentHashMap<String, Student> students = new ConcurrentHashMap<>();
+    private final StampedLock[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Uses four stripes per available core.
+     */
+    public ConcurrentEnrollmentService() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * @param stripes number of locks, rounded up to a power of two
+     */
+    public ConcurrentEnrollmentService(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be at least 1");
+        }
+        int count = Integer.highestOneBit(stripes);
+        if (count < stripes) {
+            count <<= 1;
+        }
+        this.stripes = new StampedLock[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new StampedLock();
+        }
+        this.stripeMask = count - 1;
+    }
+
+    /**
+     * Registers the student under its id. Returns false if the id is already taken.
+     */
+    public boolean register(Student student) {
+        return students.putIfAbsent(student.getId(), student) == null;
+    }
+
+    /**
+     * Returns the registered student, or null. Read its state through this service.
+     */
+    public Student get(String id) {
+        return students.get(id);
+    }
+
+    public int size() {
+        return students.size();
+    }
+
+    /**
+     * Enrolls the course on the student with this id; a null course is ignored.
+     *
+     * @throws IllegalArgumentException if no student has this id
+     */
+    public void enroll(String id, Course course) {
+        Student student = require(id);
+        StampedLock lock = lockFor(id);
+        long stamp = lock.writeLock();
+        try {
+            student.enrollCourse(course);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * GPA of the student with this id, consistent with every enrollment that has completed.
+     * The optimistic read only copies the running totals; the GPA, its metrics and its JFR
+     * event are produced once, after the copy is known to be consistent.
+     *
+     * @throws IllegalArgumentException if no student has this id
+     */
+    public double calculateGPA(String id) {
+        Student student = require(id);
+        StampedLock lock = lockFor(id);
+        long stamp = lock.tryOptimisticRead();
+        double points = student.getTotalQualityPoints();
+        int credits = student.getTotalCredits();
+        int courseCount = student.getCourses().size();
+        if (stamp == 0 || !lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                points = student.getTotalQualityPoints();
+                credits = student.getTotalCredits();
+                courseCount = student.getCourses().size();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return student.calculateGPA(points, credits, courseCount);
+    }
+
+    /**
+     * Copy of the student's courses, taken under the student's lock.
+     *
+     * @throws IllegalArgumentException if no student has this id
+     */
+    public List<Course> getCourses(String id) {
+        return read(id, student -> List.copyOf(student.getCourses()));
+    }
+
+    /**
+     * Runs a read-only function against the student while holding its read lock, so several
+     * getters can be combined into one consistent view.
+     *
+     * @throws IllegalArgumentException if no student has this id
+     */
+    public <T> T read(String id, Function<Student, T> reader) {
+        Student student = require(id);
+        StampedLock lock = lockFor(id);
+        long stamp = lock.readLock();
+        try {
+            return reader.apply(student);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int getStripeCount() {
+        return stripes.length;
+    }
+
+    private Student require(String id) {
+        Student student = id == null ? null : students.get(id);
+        if (student == null) {
+            throw new IllegalArgumentException("Unknown student id: " + id);
+        }
+        return student;
+    }
+
+    private StampedLock lockFor(String id) {
+        int h = id.hashCode() * 0x9E3779B9;
+        return stripes[(h ^ (h >>> 16)) & stripeMask];
+    }
+}
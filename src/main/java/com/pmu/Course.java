@@ -2,35 +2,78 @@ package com.pmu;
 
 
 public class Course {
-    private String courseName;
-    private int creditHours;
-    private String letterGrade;
+
+    /** Shared cache behind {@link #of(String, int, String)}; size can be tuned with -Dpmu.course.internCacheSize. */
+    private static final CourseInterner INTERNER =
+            new CourseInterner(Integer.getInteger("pmu.course.internCacheSize", 65536));
+
+    private final String courseName;
+    private final int creditHours;
+    private final byte grade; // Grade ordinal
 
     public Course(String courseName, int creditHours, String letterGrade) {
+        this(normalizeCourseName(courseName), normalizeCreditHours(creditHours), normalizeGrade(letterGrade));
+    }
+
+    private Course(String courseName, int creditHours, Grade grade) {
+        this.courseName = courseName;
+        this.creditHours = creditHours;
+        this.grade = (byte) grade.ordinal();
+    }
+
+    /**
+     * Builds a course from already-normalized values, so defaults are not applied twice.
+     */
+    static Course ofNormalized(String courseName, int creditHours, Grade grade) {
+        return new Course(courseName, creditHours, grade);
+    }
+
+    /**
+     * Returns a shared Course for these values, applying the same defaults as the constructor.
+     * Identical courses map to one instance while the intern cache has room; once it is full,
+     * new combinations get a fresh, uncached instance.
+     */
+    public static Course of(String courseName, int creditHours, String letterGrade) {
+        return INTERNER.intern(normalizeCourseName(courseName), normalizeCreditHours(creditHours),
+                normalizeGrade(letterGrade));
+    }
+
+    /**
+     * Returns the cache used by {@link #of(String, int, String)}, e.g. to read its hit/miss counts.
+     */
+    public static CourseInterner getInterner() {
+        return INTERNER;
+    }
 
+    static String normalizeCourseName(String courseName) {
         if (courseName == null || courseName.isEmpty()) {
-            this.courseName = "Unknown";
-        } else {
-            this.courseName = courseName;
+            if (Metrics.ENABLED) {
+                Metrics.COURSE_NAME_DEFAULTED.increment();
+            }
+            return "Unknown";
         }
+        return courseName;
+    }
 
+    static int normalizeCreditHours(int creditHours) {
         if (creditHours < 1 || creditHours > 6) {
-            this.creditHours = 3; // default credit hours
-        } else {
-            this.creditHours = creditHours;
-        }
-
-        if (isValidGrade(letterGrade)) {
-            this.letterGrade = letterGrade;
-        } else {
-            this.letterGrade = "F"; // default grade
+            if (Metrics.ENABLED) {
+                Metrics.COURSE_CREDITS_DEFAULTED.increment();
+            }
+            return 3; // default credit hours
         }
+        return creditHours;
     }
 
-    private boolean isValidGrade(String grade) {
-        if (grade == null) return false;
-        return grade.equals("A") || grade.equals("B") ||
-                grade.equals("C") || grade.equals("D") || grade.equals("F");
+    static Grade normalizeGrade(String letterGrade) {
+        Grade parsed = Grade.fromLetter(letterGrade);
+        if (parsed == null) {
+            if (Metrics.ENABLED) {
+                Metrics.COURSE_GRADE_DEFAULTED.increment();
+            }
+            return Grade.F; // default grade
+        }
+        return parsed;
     }
 
     public String getCourseName() {
@@ -42,17 +85,15 @@ public class Course {
     }
 
     public String getLetterGrade() {
-        return letterGrade;
+        return getGrade().getLetter();
+    }
+
+    public Grade getGrade() {
+        return Grade.fromOrdinal(grade);
     }
 
     public double getGradePoint() {
-        switch (letterGrade) {
-            case "A": return 4.0;
-            case "B": return 3.0;
-            case "C": return 2.0;
-            case "D": return 1.0;
-            default: return 0.0;
-        }
+        return getGrade().getGradePoint();
     }
 
 }
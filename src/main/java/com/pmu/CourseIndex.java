@@ -0,0 +1,115 @@
+package com.pmu;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Inverted index from course name to the students enrolled in it. Attach it to a
+ * {@link Cohort} with addListener; it is then updated on every enrollment.
+ *
+ * Each course keeps a posting list of student ordinals with a parallel array of grade
+ * ordinals, plus per-grade counts, so course reports only read that course's entries.
+ * A student who took a course twice appears once per enrollment. Not thread-safe.
+ */
+public class CourseIndex implements EnrollmentListener {
+
+    private static final int GRADE_COUNT = Grade.values().length;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    @Override
+    public void studentAdded(int ordinal, Student student) {
+        for (Course course : student.getCourses()) {
+            index(ordinal, course);
+        }
+    }
+
+    @Override
+    public void courseEnrolled(int ordinal, Student student, Course course) {
+        index(ordinal, course);
+    }
+
+    /**
+     * Student ordinals enrolled in the course, in enrollment order; empty if none.
+     */
+    public int[] getStudents(String courseName) {
+        Postings list = find(courseName);
+        return list == null ? new int[0] : Arrays.copyOf(list.students, list.size);
+    }
+
+    /**
+     * Calls the consumer with the grade and student ordinal of each enrollment in the course.
+     */
+    public void forEachEnrollment(String courseName, ObjIntConsumer<Grade> consumer) {
+        Postings list = find(courseName);
+        if (list == null) {
+            return;
+        }
+        for (int i = 0; i < list.size; i++) {
+            consumer.accept(Grade.fromOrdinal(list.grades[i]), list.students[i]);
+        }
+    }
+
+    public int getEnrollmentCount(String courseName) {
+        Postings list = find(courseName);
+        return list == null ? 0 : list.size;
+    }
+
+    /**
+     * Number of enrollments per grade, indexed by Grade ordinal (A first).
+     */
+    public int[] getGradeDistribution(String courseName) {
+        Postings list = find(courseName);
+        return list == null ? new int[GRADE_COUNT] : list.gradeCounts.clone();
+    }
+
+    /**
+     * Average grade point over the course's enrollments, or 0.0 if it has none.
+     */
+    public double getMeanGradePoint(String courseName) {
+        Postings list = find(courseName);
+        if (list == null || list.size == 0) {
+            return 0.0;
+        }
+        double total = 0.0;
+        for (int g = 0; g < GRADE_COUNT; g++) {
+            total += list.gradeCounts[g] * Grade.gradePointOf(g);
+        }
+        return total / list.size;
+    }
+
+    public Set<String> getCourseNames() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    private void index(int ordinal, Course course) {
+        postings.computeIfAbsent(course.getCourseName(), name -> new Postings())
+                .add(ordinal, course.getGrade().ordinal());
+    }
+
+    private Postings find(String courseName) {
+        return postings.get(Course.normalizeCourseName(courseName));
+    }
+
+    private static final class Postings {
+        int[] students = new int[4];
+        byte[] grades = new byte[4];
+        final int[] gradeCounts = new int[GRADE_COUNT];
+        int size;
+
+        void add(int student, int grade) {
+            if (size == students.length) {
+                students = Arrays.copyOf(students, size * 2);
+                grades = Arrays.copyOf(grades, size * 2);
+            }
+            students[size] = student;
+            grades[size] = (byte) grade;
+            gradeCounts[grade]++;
+            size++;
+        }
+    }
+}
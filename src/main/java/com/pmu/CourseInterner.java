@@ -0,0 +1,80 @@
+package com.pmu;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe flyweight cache of Course instances keyed by
+ * (courseName, creditHours, grade). Course has no setters, so sharing is safe.
+ *
+ * The cache never evicts: once it holds maxSize entries, unseen combinations are
+ * built without being cached and counted as misses.
+ */
+public final class CourseInterner {
+
+    private record Key(String courseName, int creditHours, Grade grade) {
+    }
+
+    private final ConcurrentHashMap<Key, Course> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CourseInterner(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Same contract as {@link Course#of(String, int, String)}, against this cache.
+     */
+    public Course intern(String courseName, int creditHours, String letterGrade) {
+        return intern(Course.normalizeCourseName(courseName), Course.normalizeCreditHours(creditHours),
+                Course.normalizeGrade(letterGrade));
+    }
+
+    Course intern(String courseName, int creditHours, Grade grade) {
+        Key key = new Key(courseName, creditHours, grade);
+        Course cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        Course created = Course.ofNormalized(courseName, creditHours, grade);
+        if (cache.size() >= maxSize) {
+            return created;
+        }
+        // Another thread may have interned the same course in the meantime; keep the first one
+        Course raced = cache.putIfAbsent(key, created);
+        return raced != null ? raced : created;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Drops all cached courses and resets the hit/miss counts.
+     */
+    public void clear() {
+        cache.clear();
+        hits.reset();
+        misses.reset();
+    }
+}
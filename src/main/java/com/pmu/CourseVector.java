@@ -0,0 +1,104 @@
+package com.pmu;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of courses with structural sharing: {@link #append(Course)} returns a new
+ * vector that shares all but O(log32 n) nodes with the old one, so earlier versions stay
+ * valid and unchanged. Elements live in a 32-way trie plus a tail array of up to 32 courses,
+ * so appends copy at most the tail and one path; get is O(log32 n).
+ */
+final class CourseVector extends AbstractList<Course> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    static final CourseVector EMPTY = new CourseVector(0, BITS, new Object[WIDTH], new Object[0]);
+
+    private final int count;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private CourseVector(int count, int shift, Object[] root, Object[] tail) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns a vector with the course added at the end; this vector is not changed.
+     */
+    CourseVector append(Course course) {
+        if (count - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = course;
+            return new CourseVector(count + 1, shift, root, newTail);
+        }
+        // Tail is full: push it into the trie, growing a level when the root is full
+        Object[] newRoot;
+        int newShift = shift;
+        if ((count >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new CourseVector(count + 1, newShift, newRoot, new Object[]{course});
+    }
+
+    @Override
+    public Course get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        if (index >= tailOffset()) {
+            return (Course) tail[index & MASK];
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return (Course) node[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    private int tailOffset() {
+        return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((count - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        Object inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            inserted = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        result[subIndex] = inserted;
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = newPath(level - BITS, node);
+        return path;
+    }
+}
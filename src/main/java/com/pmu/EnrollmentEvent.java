@@ -0,0 +1,28 @@
+package com.pmu;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for Student.enrollCourse.
+ */
+@Name("com.pmu.Enrollment")
+@Label("Enrollment")
+@Category({"PMU", "Students"})
+@Description("A course added to a student")
+@StackTrace(false)
+final class EnrollmentEvent extends jdk.jfr.Event {
+
+    @Label("Student Id")
+    String studentId;
+
+    @Label("Course")
+    String courseName;
+
+    @Label("Course Count")
+    @Description("Courses after the enrollment")
+    int courseCount;
+}
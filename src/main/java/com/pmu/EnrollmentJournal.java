@@ -0,0 +1,687 @@
+package com.pmu;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead log of enrollments with group commit.
+ *
+ * The file starts with a 256-byte header: int CRC32 of bytes 4..255, int magic "PMUJ" and the
+ * long base sequence, the first sequence number this journal may hand out. After it, every
+ * enrollment is one record of one or more 256-byte blocks (little-endian):
+ * <pre>
+ * 0    int   CRC32 of the rest of the record, up to the end of its last block
+ * 4    long  sequence number
+ * 12   byte  credit hours
+ * 13   byte  grade ordinal
+ * 16   int   id length, 20 int name length, 24 int course name length (UTF-8 bytes)
+ * 28   id, name and course name bytes, zero-padded to a whole number of blocks
+ * </pre>
+ * Typical enrollments fit one block; longer ids and names simply take more, so every student
+ * and course the model accepts can be journaled.
+ *
+ * Records are written under the journal's monitor, but fsync runs outside it, one at a time,
+ * and covers every record written before it started. Callers waiting for durability wait on
+ * the highest synced sequence, so concurrent appends share one fsync. An fsync starts once
+ * {@code groupCommitSize} records are pending, or once the group-commit window has passed since
+ * the first pending record, whichever comes first. The append that fills a group waits for it;
+ * with a group size of 1 that is every append. With larger groups, other appends return before
+ * their record is durable (a bounded loss window on power failure, traded for throughput) and
+ * can wait for it with {@link #awaitDurable(long)}.
+ *
+ * A failed write or fsync leaves the journal unusable: the failure is kept and rethrown by
+ * every later append and sync, since the kernel may already have dropped the unsynced pages.
+ *
+ * Sequence numbers only ever grow, across reopens and checkpoints alike. A checkpoint stores
+ * the last sequence it covers in the snapshot, and recovery replays only the records after it,
+ * so a crash between writing the snapshot and emptying the journal never applies an enrollment
+ * twice. A torn record at the tail (from a crash mid-write) ends the replay and is truncated
+ * when the journal is reopened. A bad record with more data after it is corruption, not a
+ * torn write: replay and open fail with an IOException rather than drop the records behind it.
+ */
+public class EnrollmentJournal implements Closeable {
+
+    /** Block size; every record is a whole number of blocks. */
+    public static final int RECORD_SIZE = 256;
+    public static final int HEADER_SIZE = RECORD_SIZE;
+
+    private static final int MAGIC = 0x4A554D50; // "PMUJ" as little-endian bytes
+
+    private static final int STRINGS_OFFSET = 28;
+
+    private static final int LATENCY_SAMPLES = 8192;
+
+    private final FileChannel channel;
+    private final int groupCommitSize;
+    private final long groupCommitWindowNanos;
+    private final ScheduledExecutorService flusher;
+    private ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32 crc = new CRC32();
+
+    private long nextSequence;
+    private long requestedSequence; // highest sequence covered by a started fsync
+    private long syncedSequence;    // highest sequence known to be on disk
+    private boolean syncing;
+    private IOException failure;
+    private long appendCount;
+    private long syncCount;
+    private boolean closed;
+
+    // Ring buffer of the most recent append latencies
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private int latencyNext;
+
+    /**
+     * Opens (or creates) a journal that fsyncs every append.
+     */
+    public EnrollmentJournal(Path file) throws IOException {
+        this(file, 1, 0);
+    }
+
+    /**
+     * @param groupCommitSize         pending records that trigger an fsync (1 = sync every append)
+     * @param groupCommitWindowMillis longest time a record may stay unsynced (0 = no time limit)
+     */
+    public EnrollmentJournal(Path file, int groupCommitSize, long groupCommitWindowMillis) throws IOException {
+        if (groupCommitSize < 1) {
+            throw new IllegalArgumentException("groupCommitSize must be at least 1");
+        }
+        if (groupCommitWindowMillis < 0) {
+            throw new IllegalArgumentException("groupCommitWindowMillis must not be negative");
+        }
+        this.groupCommitSize = groupCommitSize;
+        this.groupCommitWindowNanos = TimeUnit.MILLISECONDS.toNanos(groupCommitWindowMillis);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        try {
+            this.nextSequence = openRecords(channel);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.requestedSequence = nextSequence - 1;
+        this.syncedSequence = nextSequence - 1;
+
+        if (groupCommitWindowMillis > 0 && groupCommitSize > 1) {
+            // One timer per batch, armed by its first record; see write()
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "enrollment-journal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            flusher = executor;
+        } else {
+            flusher = null;
+        }
+    }
+
+    /**
+     * Validates or creates the header, drops a torn tail so new records start on a record
+     * boundary, and returns the next sequence number.
+     */
+    private static long openRecords(FileChannel channel) throws IOException {
+        long baseSequence;
+        if (channel.size() < HEADER_SIZE) {
+            // New journal, or a crash before its header was complete
+            baseSequence = 0;
+            channel.truncate(0);
+            writeHeader(channel, baseSequence);
+            channel.force(true);
+        } else {
+            baseSequence = readHeader(channel);
+        }
+
+        RecordReader reader = new RecordReader(channel);
+        long nextSequence = baseSequence;
+        long position = HEADER_SIZE;
+        for (int size; (size = reader.read(position)) > 0; position += size) {
+            nextSequence = Math.max(nextSequence, reader.sequence() + 1);
+        }
+        reader.requireTail(position);
+        channel.truncate(position);
+        channel.position(position);
+        return nextSequence;
+    }
+
+    /**
+     * Write-ahead enrollment: journals the course, then enrolls it on the student.
+     * A null course is ignored, as in Student.enrollCourse. The record is written and the course
+     * enrolled under the journal's monitor, so a concurrent checkpoint sees both or neither;
+     * waiting for the fsync happens after the monitor is released.
+     */
+    public void enroll(Student student, Course course) throws IOException {
+        if (course == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        long sequence;
+        boolean groupFull;
+        synchronized (this) {
+            sequence = write(student, course);
+            student.enrollCourse(course);
+            groupFull = pendingLocked() >= groupCommitSize;
+        }
+        finishAppend(start, sequence, groupFull);
+    }
+
+    /**
+     * Appends one enrollment record and returns its sequence number. If the record fills the
+     * group, waits until the group is on disk.
+     */
+    public long append(Student student, Course course) throws IOException {
+        long start = System.nanoTime();
+        long sequence;
+        boolean groupFull;
+        synchronized (this) {
+            sequence = write(student, course);
+            groupFull = pendingLocked() >= groupCommitSize;
+        }
+        finishAppend(start, sequence, groupFull);
+        return sequence;
+    }
+
+    private void finishAppend(long start, long sequence, boolean groupFull) throws IOException {
+        if (groupFull) {
+            awaitDurable(sequence);
+        }
+        synchronized (this) {
+            recordLatency(System.nanoTime() - start);
+        }
+    }
+
+    private long write(Student student, Course course) throws IOException {
+        ensureUsable();
+        byte[] id = student.getId().getBytes(StandardCharsets.UTF_8);
+        byte[] name = student.getName().getBytes(StandardCharsets.UTF_8);
+        byte[] courseName = course.getCourseName().getBytes(StandardCharsets.UTF_8);
+        int size = recordSize(id.length, name.length, courseName.length);
+        if (size < 0) {
+            throw new IllegalArgumentException("Enrollment for student " + student.getId()
+                    + " is too large for one journal record");
+        }
+        if (size > record.capacity()) {
+            record = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        record.clear().limit(size);
+        Arrays.fill(record.array(), 0, size, (byte) 0);
+        record.putLong(4, nextSequence);
+        record.put(12, (byte) course.getCreditHours());
+        record.put(13, (byte) course.getGrade().ordinal());
+        record.putInt(16, id.length).putInt(20, name.length).putInt(24, courseName.length);
+        record.put(STRINGS_OFFSET, id)
+                .put(STRINGS_OFFSET + id.length, name)
+                .put(STRINGS_OFFSET + id.length + name.length, courseName);
+        crc.reset();
+        crc.update(record.array(), 4, size - 4);
+        record.putInt(0, (int) crc.getValue());
+
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            // A partial record may be on disk; appending after it would bury it mid-file
+            failure = e;
+            throw e;
+        }
+        long sequence = nextSequence++;
+        appendCount++;
+        if (flusher != null && pendingLocked() == 1) {
+            flusher.schedule(this::flushExpired, groupCommitWindowNanos, TimeUnit.NANOSECONDS);
+        }
+        return sequence;
+    }
+
+    /**
+     * Blocks until the record with this sequence is on disk. If no fsync is running, the caller
+     * runs one itself for every record written so far; otherwise it waits for the running one
+     * and, if that did not cover its record, starts the next.
+     *
+     * @throws IOException if the fsync fails, or an earlier failure left the journal unusable
+     */
+    public void awaitDurable(long sequence) throws IOException {
+        long target;
+        synchronized (this) {
+            if (sequence >= nextSequence) {
+                throw new IllegalArgumentException("Sequence " + sequence + " has not been appended");
+            }
+            while (true) {
+                if (syncedSequence >= sequence) {
+                    return;
+                }
+                if (failure != null) {
+                    throw failed();
+                }
+                if (!syncing) {
+                    break;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the journal to sync");
+                }
+            }
+            syncing = true;
+            target = nextSequence - 1;
+            requestedSequence = Math.max(requestedSequence, target);
+        }
+
+        IOException error = null;
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            error = e;
+        }
+        synchronized (this) {
+            syncing = false;
+            if (error == null) {
+                syncedSequence = Math.max(syncedSequence, target);
+                syncCount++;
+            } else if (failure == null) {
+                failure = error;
+            }
+            notifyAll();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Forces all pending records to disk now.
+     */
+    public void sync() throws IOException {
+        long last;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            ensureUsable();
+            last = nextSequence - 1;
+        }
+        if (last >= 0) {
+            awaitDurable(last);
+        }
+    }
+
+    private void flushExpired() {
+        long last;
+        synchronized (this) {
+            if (closed || failure != null || nextSequence == 0) {
+                return;
+            }
+            last = nextSequence - 1;
+        }
+        try {
+            awaitDurable(last);
+        } catch (IOException e) {
+            // Kept in failure by awaitDurable and rethrown by the next append or sync
+        }
+    }
+
+    private long pendingLocked() {
+        return nextSequence - 1 - requestedSequence;
+    }
+
+    private void ensureUsable() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (failure != null) {
+            throw failed();
+        }
+    }
+
+    private IOException failed() {
+        return new IOException("Journal failed earlier and may have lost unsynced records", failure);
+    }
+
+    /**
+     * Writes a snapshot of the given students, then empties the journal: everything journaled
+     * so far is covered by the snapshot. The snapshot is written to a temporary file and moved
+     * into place so a crash never leaves a half-written snapshot.
+     *
+     * The students must only be changed through {@link #enroll(Student, Course)}, which holds
+     * the same monitor, so the snapshot matches the journal exactly. The snapshot's directory
+     * is synced before the journal is emptied, so the rename cannot be lost after a crash that
+     * keeps the truncation.
+     */
+    public synchronized void checkpoint(Path snapshot, Iterable<Student> students) throws IOException {
+        ensureUsable();
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        RosterSnapshot.write(temp, students, nextSequence - 1);
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(snapshot.toAbsolutePath().getParent());
+
+        // From here on a crash leaves records the snapshot already covers; replay skips them
+        try {
+            writeHeader(channel, nextSequence);
+            channel.truncate(HEADER_SIZE);
+            channel.position(HEADER_SIZE);
+            channel.force(true);
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+        // Everything written so far is durable through the snapshot
+        requestedSequence = nextSequence - 1;
+        syncedSequence = nextSequence - 1;
+        notifyAll();
+    }
+
+    /**
+     * Sequence number the next appended record will carry.
+     */
+    synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    public synchronized long getAppendCount() {
+        return appendCount;
+    }
+
+    public synchronized long getSyncCount() {
+        return syncCount;
+    }
+
+    /**
+     * Append latency in nanoseconds at the given percentile (0–100), over the most recent
+     * 8192 appends. Returns 0 before the first append.
+     */
+    public synchronized long getAppendLatencyPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        if (latencyCount == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * latencyCount) - 1;
+        return sorted[Math.max(0, rank)];
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (flusher != null) {
+            // Not shutdownNow: interrupting a thread inside force() would close the channel
+            flusher.shutdown();
+        }
+        synchronized (this) {
+            boolean interrupted = false;
+            while (syncing) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            try {
+                if (failure == null && syncedSequence < nextSequence - 1) {
+                    channel.force(false);
+                    requestedSequence = nextSequence - 1;
+                    syncedSequence = nextSequence - 1;
+                    syncCount++;
+                }
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            } finally {
+                channel.close();
+                notifyAll();
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failed();
+            }
+        }
+    }
+
+    // Makes a rename in this directory durable; Windows cannot open directories as channels
+    private static void forceDirectory(Path directory) throws IOException {
+        if (directory == null || System.getProperty("os.name").startsWith("Windows")) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        latencies[latencyNext] = nanos;
+        latencyNext = (latencyNext + 1) % LATENCY_SAMPLES;
+        if (latencyCount < LATENCY_SAMPLES) {
+            latencyCount++;
+        }
+    }
+
+    /**
+     * Rebuilds students from the last snapshot (if the file exists) plus the journal records
+     * the snapshot does not cover (if the journal exists), in first-appearance order.
+     */
+    public static List<Student> recover(Path snapshot, Path journal) throws IOException {
+        Map<String, Student> studentsById = new LinkedHashMap<>();
+        long afterSequence = RosterSnapshot.NO_JOURNAL_SEQUENCE;
+        if (snapshot != null && Files.exists(snapshot)) {
+            afterSequence = RosterSnapshot.readJournalSequence(snapshot);
+            for (Student student : RosterSnapshot.read(snapshot)) {
+                studentsById.putIfAbsent(student.getId(), student);
+            }
+        }
+        if (journal != null && Files.exists(journal)) {
+            replay(journal, studentsById, afterSequence);
+        }
+        return new ArrayList<>(studentsById.values());
+    }
+
+    /**
+     * Applies every intact journal record to the map, creating students that are missing.
+     * Returns the number of records replayed.
+     */
+    public static long replay(Path journal, Map<String, Student> studentsById) throws IOException {
+        return replay(journal, studentsById, RosterSnapshot.NO_JOURNAL_SEQUENCE);
+    }
+
+    /**
+     * Like {@link #replay(Path, Map)}, but skips records with a sequence at or below
+     * {@code afterSequence}, the last sequence already covered by a snapshot.
+     */
+    public static long replay(Path journal, Map<String, Student> studentsById, long afterSequence)
+            throws IOException {
+        try (FileChannel in = FileChannel.open(journal, StandardOpenOption.READ)) {
+            if (in.size() < HEADER_SIZE) {
+                return 0;
+            }
+            readHeader(in);
+            RecordReader reader = new RecordReader(in);
+            long replayed = 0;
+            long position = HEADER_SIZE;
+            for (int size; (size = reader.read(position)) > 0; position += size) {
+                if (reader.sequence() <= afterSequence) {
+                    continue;
+                }
+                String id = reader.id();
+                Student student = studentsById.get(id);
+                if (student == null) {
+                    student = new Student(id, reader.name());
+                    studentsById.put(student.getId(), student);
+                }
+                student.enrollCourse(Course.getInterner().intern(reader.courseName(),
+                        reader.creditHours(), reader.grade()));
+                replayed++;
+            }
+            reader.requireTail(position);
+            return replayed;
+        }
+    }
+
+    /**
+     * Bytes taken by a record with these UTF-8 string lengths, rounded up to whole blocks,
+     * or -1 if the lengths are negative or the record would not fit in an int.
+     */
+    private static int recordSize(int idLength, int nameLength, int courseNameLength) {
+        if (idLength < 0 || nameLength < 0 || courseNameLength < 0) {
+            return -1;
+        }
+        long bytes = (long) STRINGS_OFFSET + idLength + nameLength + courseNameLength;
+        long size = (bytes + RECORD_SIZE - 1) / RECORD_SIZE * RECORD_SIZE;
+        return size > Integer.MAX_VALUE - RECORD_SIZE ? -1 : (int) size;
+    }
+
+    private static void writeHeader(FileChannel out, long baseSequence) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(4, MAGIC).putLong(8, baseSequence);
+        CRC32 checksum = new CRC32();
+        checksum.update(header.array(), 4, HEADER_SIZE - 4);
+        header.putInt(0, (int) checksum.getValue());
+        while (header.hasRemaining()) {
+            out.write(header, header.position());
+        }
+    }
+
+    /**
+     * Validates the header and returns the base sequence.
+     */
+    private static long readHeader(FileChannel in) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (in.read(header, header.position()) < 0) {
+                throw new IOException("Not an enrollment journal: file too short");
+            }
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(header.array(), 4, HEADER_SIZE - 4);
+        if (header.getInt(4) != MAGIC || (int) checksum.getValue() != header.getInt(0)) {
+            throw new IOException("Not an enrollment journal: bad header");
+        }
+        return header.getLong(8);
+    }
+
+    /**
+     * Reads records one at a time, growing its buffer for records that span several blocks.
+     */
+    private static final class RecordReader {
+
+        private final FileChannel in;
+        private final CRC32 checksum = new CRC32();
+        private ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        RecordReader(FileChannel in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the record at the position and returns its size in bytes, or -1 at end of file
+         * or on a torn/corrupt record. Lengths are checked against the file before anything is
+         * allocated, so a corrupt length never triggers a huge buffer.
+         */
+        int read(long position) throws IOException {
+            long available = in.size() - position;
+            if (available < RECORD_SIZE || !fill(position, 0, RECORD_SIZE)) {
+                return -1;
+            }
+            int size = recordSize(buffer.getInt(16), buffer.getInt(20), buffer.getInt(24));
+            if (size < 0 || size > available) {
+                return -1;
+            }
+            if (size > buffer.capacity()) {
+                ByteBuffer grown = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+                grown.put(0, buffer, 0, RECORD_SIZE);
+                buffer = grown;
+            }
+            if (!fill(position, RECORD_SIZE, size)) {
+                return -1;
+            }
+            checksum.reset();
+            checksum.update(buffer.array(), 4, size - 4);
+            if ((int) checksum.getValue() != buffer.getInt(0)) {
+                return -1;
+            }
+            int grade = buffer.get(13);
+            int credits = buffer.get(12);
+            return grade >= 0 && grade < Grade.values().length && credits >= 1 && credits <= 6 ? size : -1;
+        }
+
+        /**
+         * An unreadable record is only a torn tail if no intact record follows it. Otherwise
+         * the journal is corrupt, and dropping the rest would lose synced records.
+         */
+        void requireTail(long position) throws IOException {
+            for (long next = position + RECORD_SIZE; next + RECORD_SIZE <= in.size(); next += RECORD_SIZE) {
+                if (read(next) > 0) {
+                    throw new IOException("Corrupt journal record at offset " + position
+                            + " is followed by an intact record at offset " + next);
+                }
+            }
+        }
+
+        long sequence() {
+            return buffer.getLong(4);
+        }
+
+        int creditHours() {
+            return buffer.get(12);
+        }
+
+        Grade grade() {
+            return Grade.fromOrdinal(buffer.get(13));
+        }
+
+        String id() {
+            return string(STRINGS_OFFSET, buffer.getInt(16));
+        }
+
+        String name() {
+            return string(STRINGS_OFFSET + buffer.getInt(16), buffer.getInt(20));
+        }
+
+        String courseName() {
+            return string(STRINGS_OFFSET + buffer.getInt(16) + buffer.getInt(20), buffer.getInt(24));
+        }
+
+        private String string(int offset, int length) {
+            return new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+        }
+
+        private boolean fill(long position, int from, int to) throws IOException {
+            buffer.clear().position(from).limit(to);
+            while (buffer.hasRemaining()) {
+                if (in.read(buffer, position + buffer.position()) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
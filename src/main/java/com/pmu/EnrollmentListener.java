@@ -0,0 +1,19 @@
+package com.pmu;
+
+/**
+ * Receives the changes made to a {@link Cohort}, so indexes over the cohort can be kept up
+ * to date as students are added and enrolled instead of being rebuilt by a full scan.
+ */
+public interface EnrollmentListener {
+
+    /**
+     * Called once per student, after it gets its ordinal. The student may already have
+     * courses, which have not been reported through {@link #courseEnrolled}.
+     */
+    void studentAdded(int ordinal, Student student);
+
+    /**
+     * Called after the course has been added to the student.
+     */
+    void courseEnrolled(int ordinal, Student student, Course course);
+}
@@ -0,0 +1,61 @@
+package com.pmu;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts JFR recordings that include the com.pmu events (enrollment, GPA calculation and
+ * bulk grading) with the settings shipped in the jar as pmu.jfc, on top of the JDK's own
+ * "default" profile, so domain events line up with GC and lock events in one recording.
+ */
+public final class FlightRecording {
+
+    /** Classpath location of the settings file. */
+    public static final String SETTINGS_RESOURCE = "/pmu.jfc";
+
+    private FlightRecording() {
+    }
+
+    /**
+     * The com.pmu event settings from pmu.jfc.
+     */
+    public static Configuration configuration() throws IOException, ParseException {
+        try (InputStream in = FlightRecording.class.getResourceAsStream(SETTINGS_RESOURCE)) {
+            if (in == null) {
+                throw new IOException(SETTINGS_RESOURCE + " not found on the classpath");
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return Configuration.create(reader);
+            }
+        }
+    }
+
+    /**
+     * A recording with the JDK "default" settings plus pmu.jfc; the caller starts, stops and dumps it.
+     */
+    public static Recording newRecording() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        settings.putAll(configuration().getSettings());
+        Recording recording = new Recording(settings);
+        recording.setName("PMU");
+        return recording;
+    }
+
+    /**
+     * Creates and starts a recording as in {@link #newRecording()}.
+     */
+    public static Recording start() throws IOException, ParseException {
+        Recording recording = newRecording();
+        recording.start();
+        return recording;
+    }
+}
@@ -0,0 +1,27 @@
+package com.pmu;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for Student.calculateGPA.
+ */
+@Name("com.pmu.GpaCalculation")
+@Label("GPA Calculation")
+@Category({"PMU", "Students"})
+@Description("A student's GPA computed by calculateGPA")
+@StackTrace(false)
+final class GpaCalculationEvent extends jdk.jfr.Event {
+
+    @Label("Student Id")
+    String studentId;
+
+    @Label("Course Count")
+    int courseCount;
+
+    @Label("GPA")
+    double gpa;
+}
@@ -0,0 +1,116 @@
+package com.pmu;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the GPAs of a whole cohort in parallel with fork/join.
+ *
+ * Every student's GPA is computed independently by Student.calculateGPA, so the
+ * results are identical to a sequential loop regardless of how the work is split.
+ * Cohorts no larger than the sequential cutoff are computed on the calling thread.
+ */
+public class GpaEngine {
+
+    public static final int DEFAULT_SPLIT_THRESHOLD = 1024;
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 8192;
+
+    private final ForkJoinPool pool;
+    private final int splitThreshold;
+    private final int sequentialCutoff;
+
+    /**
+     * Uses the common pool and the default threshold and cutoff.
+     */
+    public GpaEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SPLIT_THRESHOLD, DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    /**
+     * @param pool             pool the tasks run in
+     * @param splitThreshold   largest slice a task computes without splitting further
+     * @param sequentialCutoff cohorts of this size or smaller skip the pool entirely
+     */
+    public GpaEngine(ForkJoinPool pool, int splitThreshold, int sequentialCutoff) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        if (splitThreshold < 1) {
+            throw new IllegalArgumentException("splitThreshold must be at least 1");
+        }
+        if (sequentialCutoff < 0) {
+            throw new IllegalArgumentException("sequentialCutoff must not be negative");
+        }
+        this.pool = pool;
+        this.splitThreshold = splitThreshold;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    /**
+     * Returns the GPAs in the collection's iteration order.
+     */
+    public double[] computeAll(Collection<Student> students) {
+        Student[] cohort = students.toArray(new Student[0]);
+        double[] gpas = new double[cohort.length];
+        computeAll(cohort, gpas);
+        return gpas;
+    }
+
+    /**
+     * Writes {@code students[i].calculateGPA()} into {@code out[i]}.
+     */
+    public void computeAll(Student[] students, double[] out) {
+        if (out.length < students.length) {
+            throw new IllegalArgumentException("Output array holds " + out.length
+                    + " GPAs but there are " + students.length + " students");
+        }
+        if (students.length <= sequentialCutoff) {
+            computeRange(students, out, 0, students.length);
+        } else {
+            pool.invoke(new GpaTask(students, out, 0, students.length, splitThreshold));
+        }
+    }
+
+    public int getSplitThreshold() {
+        return splitThreshold;
+    }
+
+    public int getSequentialCutoff() {
+        return sequentialCutoff;
+    }
+
+    private static void computeRange(Student[] students, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = students[i].calculateGPA();
+        }
+    }
+
+    private static final class GpaTask extends RecursiveAction {
+
+        private final Student[] students;
+        private final double[] out;
+        private final int from;
+        private final int to;
+        private final int splitThreshold;
+
+        GpaTask(Student[] students, double[] out, int from, int to, int splitThreshold) {
+            this.students = students;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.splitThreshold = splitThreshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= splitThreshold) {
+                computeRange(students, out, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GpaTask(students, out, from, mid, splitThreshold),
+                    new GpaTask(students, out, mid, to, splitThreshold));
+        }
+    }
+}
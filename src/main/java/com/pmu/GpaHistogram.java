@@ -0,0 +1,176 @@
+package com.pmu;
+
+import java.util.Arrays;
+
+/**
+ * Streaming GPA distribution over the 0.0-4.0 scale, using equal-width buckets.
+ *
+ * Because GPAs are bounded, a fine histogram also works as a quantile sketch: a quantile is
+ * answered with the midpoint of the bucket holding that rank, so it is never further than
+ * half a bucket width from the exact value. {@link #withMaxError(double)} picks the bucket
+ * count for a given error. Histograms with the same bucket count merge by adding counts,
+ * so partitions can be summarized on separate threads and combined afterwards.
+ * Not thread-safe.
+ */
+public class GpaHistogram {
+
+    public static final double MIN_GPA = 0.0;
+    public static final double MAX_GPA = 4.0;
+
+    private final long[] counts;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * @param bucketCount number of equal-width buckets between 0.0 and 4.0
+     */
+    public GpaHistogram(int bucketCount) {
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("bucketCount must be at least 1");
+        }
+        this.counts = new long[bucketCount];
+    }
+
+    /**
+     * Histogram whose quantiles are within maxError grade points of the exact value.
+     */
+    public static GpaHistogram withMaxError(double maxError) {
+        if (!(maxError > 0.0)) {
+            throw new IllegalArgumentException("maxError must be positive");
+        }
+        double buckets = Math.ceil((MAX_GPA - MIN_GPA) / (2 * maxError));
+        if (buckets > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("maxError too small: " + maxError);
+        }
+        return new GpaHistogram((int) buckets);
+    }
+
+    /**
+     * Records one GPA; values outside 0.0-4.0 are clamped into range.
+     *
+     * @throws IllegalArgumentException if gpa is NaN
+     */
+    public void add(double gpa) {
+        if (Double.isNaN(gpa)) {
+            throw new IllegalArgumentException("gpa must not be NaN");
+        }
+        double value = Math.max(MIN_GPA, Math.min(MAX_GPA, gpa));
+        counts[bucketOf(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Records calculateGPA() of each student.
+     */
+    public void addAll(Iterable<Student> students) {
+        for (Student student : students) {
+            add(student.calculateGPA());
+        }
+    }
+
+    /**
+     * Adds the other histogram's data into this one and returns this.
+     *
+     * @throws IllegalArgumentException if the bucket counts differ
+     */
+    public GpaHistogram merge(GpaHistogram other) {
+        if (other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Cannot merge histograms with "
+                    + counts.length + " and " + other.counts.length + " buckets");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Approximate q-quantile (0.0 to 1.0), within {@link #getMaxError()} of the exact value.
+     * Returns 0.0 for an empty histogram.
+     */
+    public double quantile(double q) {
+        if (!(q >= 0.0 && q <= 1.0)) {
+            throw new IllegalArgumentException("q must be between 0.0 and 1.0: " + q);
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        int bucket = 0;
+        while (seen + counts[bucket] < rank) {
+            seen += counts[bucket];
+            bucket++;
+        }
+        double midpoint = getBucketLowerBound(bucket) + getBucketWidth() / 2;
+        return Math.max(min, Math.min(max, midpoint));
+    }
+
+    public double median() {
+        return quantile(0.5);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Exact mean of the recorded GPAs, or 0.0 if empty.
+     */
+    public double getMean() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    /**
+     * Smallest recorded GPA, or 0.0 if empty.
+     */
+    public double getMin() {
+        return count == 0 ? 0.0 : min;
+    }
+
+    /**
+     * Largest recorded GPA, or 0.0 if empty.
+     */
+    public double getMax() {
+        return count == 0 ? 0.0 : max;
+    }
+
+    /**
+     * Largest difference between a quantile estimate and the exact value: half a bucket width.
+     */
+    public double getMaxError() {
+        return getBucketWidth() / 2;
+    }
+
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    public double getBucketWidth() {
+        return (MAX_GPA - MIN_GPA) / counts.length;
+    }
+
+    /**
+     * Lower bound of the bucket; each bucket includes its lower bound, and the last also includes 4.0.
+     */
+    public double getBucketLowerBound(int bucket) {
+        return MIN_GPA + bucket * getBucketWidth();
+    }
+
+    public long[] getBucketCounts() {
+        return Arrays.copyOf(counts, counts.length);
+    }
+
+    private int bucketOf(double value) {
+        return Math.min((int) ((value - MIN_GPA) * counts.length / (MAX_GPA - MIN_GPA)), counts.length - 1);
+    }
+}
@@ -0,0 +1,260 @@
+package com.pmu;
+
+import java.util.Arrays;
+
+/**
+ * Students ranked by GPA, kept up to date as enrollments change. Attach it to a
+ * {@link Cohort} with addListener.
+ *
+ * Ranks are ordered by GPA (highest first), then by id, then by ordinal for students that
+ * share the default id, so ties always resolve the same way. The ranking is an
+ * order-statistic treap stored in arrays indexed by ordinal; each enrollment re-inserts
+ * one student, and top-K, rank and percentile queries take logarithmic time.
+ * Not thread-safe.
+ */
+public class GpaLeaderboard implements EnrollmentListener {
+
+    private static final int NIL = -1;
+
+    private double[] gpas = new double[16];
+    private String[] ids = new String[16];
+    private int[] left = new int[16];
+    private int[] right = new int[16];
+    private int[] sizes = new int[16];
+    private int[] priorities = new int[16];
+    private int root = NIL;
+    private int size;
+
+    // Outputs of split()
+    private int splitLeft;
+    private int splitRight;
+
+    @Override
+    public void studentAdded(int ordinal, Student student) {
+        ensureCapacity(ordinal + 1);
+        if (ids[ordinal] != null) {
+            throw new IllegalArgumentException("Ordinal already ranked: " + ordinal);
+        }
+        ids[ordinal] = student.getId();
+        gpas[ordinal] = student.calculateGPA();
+        priorities[ordinal] = mix(ordinal);
+        root = insert(root, ordinal);
+        size++;
+    }
+
+    @Override
+    public void courseEnrolled(int ordinal, Student student, Course course) {
+        checkOrdinal(ordinal);
+        // Remove under the old GPA before the key changes
+        root = remove(root, ordinal);
+        gpas[ordinal] = student.calculateGPA();
+        root = insert(root, ordinal);
+    }
+
+    /**
+     * Ordinals of the (at most) k best-ranked students, best first.
+     */
+    public int[] topK(int k) {
+        int[] result = new int[Math.max(0, Math.min(k, size))];
+        int[] stack = new int[64];
+        int depth = 0;
+        int count = 0;
+        int node = root;
+        while (count < result.length) {
+            while (node != NIL) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+                stack[depth++] = node;
+                node = left[node];
+            }
+            node = stack[--depth];
+            result[count++] = node;
+            node = right[node];
+        }
+        return result;
+    }
+
+    /**
+     * Rank of the student, 1 for the highest GPA.
+     *
+     * @throws IllegalArgumentException if the ordinal is not ranked
+     */
+    public int rankOf(int ordinal) {
+        checkOrdinal(ordinal);
+        int rank = 0;
+        int node = root;
+        while (node != NIL) {
+            int c = compare(ordinal, node);
+            if (c < 0) {
+                node = left[node];
+            } else if (c > 0) {
+                rank += sizeOf(left[node]) + 1;
+                node = right[node];
+            } else {
+                return rank + sizeOf(left[node]) + 1;
+            }
+        }
+        throw new IllegalStateException("Ranked ordinal missing from tree: " + ordinal);
+    }
+
+    /**
+     * Ordinal of the student at this rank (1 for the highest GPA).
+     *
+     * @throws IllegalArgumentException if rank is outside 1..size
+     */
+    public int atRank(int rank) {
+        if (rank < 1 || rank > size) {
+            throw new IllegalArgumentException("rank must be between 1 and " + size + ": " + rank);
+        }
+        int node = root;
+        while (true) {
+            int leftSize = sizeOf(left[node]);
+            if (rank <= leftSize) {
+                node = left[node];
+            } else if (rank == leftSize + 1) {
+                return node;
+            } else {
+                rank -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Percentage of ranked students placed below this one (0 for the last, approaching 100 for the first).
+     */
+    public double percentileOf(int ordinal) {
+        return (size - rankOf(ordinal)) * 100.0 / size;
+    }
+
+    /**
+     * GPA the student is currently ranked by.
+     */
+    public double getGpa(int ordinal) {
+        checkOrdinal(ordinal);
+        return gpas[ordinal];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int compare(int a, int b) {
+        int c = Double.compare(gpas[b], gpas[a]);
+        if (c != 0) {
+            return c;
+        }
+        c = ids[a].compareTo(ids[b]);
+        if (c != 0) {
+            return c;
+        }
+        return Integer.compare(a, b);
+    }
+
+    private int insert(int node, int x) {
+        if (node == NIL) {
+            left[x] = NIL;
+            right[x] = NIL;
+            sizes[x] = 1;
+            return x;
+        }
+        if (priorities[x] > priorities[node]) {
+            split(node, x);
+            left[x] = splitLeft;
+            right[x] = splitRight;
+            update(x);
+            return x;
+        }
+        if (compare(x, node) < 0) {
+            left[node] = insert(left[node], x);
+        } else {
+            right[node] = insert(right[node], x);
+        }
+        update(node);
+        return node;
+    }
+
+    // Splits the subtree into nodes ranked before x (splitLeft) and after x (splitRight)
+    private void split(int node, int x) {
+        if (node == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+        } else if (compare(node, x) < 0) {
+            split(right[node], x);
+            right[node] = splitLeft;
+            update(node);
+            splitLeft = node;
+        } else {
+            split(left[node], x);
+            left[node] = splitRight;
+            update(node);
+            splitRight = node;
+        }
+    }
+
+    private int remove(int node, int x) {
+        if (node == x) {
+            return merge(left[node], right[node]);
+        }
+        if (compare(x, node) < 0) {
+            left[node] = remove(left[node], x);
+        } else {
+            right[node] = remove(right[node], x);
+        }
+        update(node);
+        return node;
+    }
+
+    private int merge(int a, int b) {
+        if (a == NIL) {
+            return b;
+        }
+        if (b == NIL) {
+            return a;
+        }
+        if (priorities[a] > priorities[b]) {
+            right[a] = merge(right[a], b);
+            update(a);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        update(b);
+        return b;
+    }
+
+    private void update(int node) {
+        sizes[node] = sizeOf(left[node]) + sizeOf(right[node]) + 1;
+    }
+
+    private int sizeOf(int node) {
+        return node == NIL ? 0 : sizes[node];
+    }
+
+    private void checkOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= ids.length || ids[ordinal] == null) {
+            throw new IllegalArgumentException("Unknown ordinal: " + ordinal);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int length = Math.max(capacity, ids.length * 2);
+        gpas = Arrays.copyOf(gpas, length);
+        ids = Arrays.copyOf(ids, length);
+        left = Arrays.copyOf(left, length);
+        right = Arrays.copyOf(right, length);
+        sizes = Arrays.copyOf(sizes, length);
+        priorities = Arrays.copyOf(priorities, length);
+    }
+
+    // Deterministic pseudo-random heap priority, so runs are reproducible
+    private static int mix(int ordinal) {
+        int h = ordinal * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+}
@@ -0,0 +1,78 @@
+package com.pmu;
+
+/**
+ * Letter grades accepted by Course, with their grade points precomputed.
+ * The ordinal order (A first, F last) matches the grade codes used by GradeCalculator.
+ */
+public enum Grade {
+    A(4.0),
+    B(3.0),
+    C(2.0),
+    D(1.0),
+    F(0.0);
+
+    private static final Grade[] VALUES = values();
+    private static final double[] GRADE_POINTS = new double[VALUES.length];
+
+    static {
+        for (Grade grade : VALUES) {
+            GRADE_POINTS[grade.ordinal()] = grade.gradePoint;
+        }
+    }
+
+    private final double gradePoint;
+
+    Grade(double gradePoint) {
+        this.gradePoint = gradePoint;
+    }
+
+    public double getGradePoint() {
+        return gradePoint;
+    }
+
+    /**
+     * Returns the letter as a String, e.g. "A".
+     */
+    public String getLetter() {
+        return name();
+    }
+
+    /**
+     * Looks up a grade by ordinal without copying the values() array.
+     */
+    public static Grade fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Grade points for an ordinal, read from a primitive table for the columnar GPA loops.
+     */
+    static double gradePointOf(int ordinal) {
+        return GRADE_POINTS[ordinal];
+    }
+
+    /**
+     * Parses a single-letter grade ("A", "B", "C", "D" or "F").
+     * Returns null for anything else, including null and lowercase letters.
+     */
+    public static Grade fromLetter(String letter) {
+        if (letter == null || letter.length() != 1) {
+            return null;
+        }
+        return fromLetter(letter.charAt(0));
+    }
+
+    /**
+     * Single-character form of {@link #fromLetter(String)}, used by the parsers to avoid a String per field.
+     */
+    static Grade fromLetter(char letter) {
+        switch (letter) {
+            case 'A': return A;
+            case 'B': return B;
+            case 'C': return C;
+            case 'D': return D;
+            case 'F': return F;
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.pmu;
+
+import java.util.BitSet;
+
+/**
+ * Bitmaps over student ordinals for set queries on grades and credit hours, such as
+ * "any F in a 4+ credit course" or "only A's". Attach it to a {@link Cohort} with
+ * addListener; it is then updated on every enrollment.
+ *
+ * One bitmap is kept per (grade, credit hours) pair, marking the students with at least one
+ * such enrollment, so grade and credit conditions on the same course can be combined.
+ * Query methods return new BitSets that the caller may combine with and, or and andNot.
+ * Not thread-safe.
+ */
+public class GradeBitmapIndex implements EnrollmentListener {
+
+    static final int MIN_CREDITS = 1;
+    static final int MAX_CREDITS = 6;
+
+    private static final int GRADE_COUNT = Grade.values().length;
+
+    // [grade ordinal][credit hours]; Course normalizes credit hours into 1..6
+    private final BitSet[][] cells = new BitSet[GRADE_COUNT][MAX_CREDITS + 1];
+    private final BitSet enrolled = new BitSet();
+    private int studentCount;
+
+    public GradeBitmapIndex() {
+        for (int g = 0; g < GRADE_COUNT; g++) {
+            for (int c = MIN_CREDITS; c <= MAX_CREDITS; c++) {
+                cells[g][c] = new BitSet();
+            }
+        }
+    }
+
+    @Override
+    public void studentAdded(int ordinal, Student student) {
+        studentCount = Math.max(studentCount, ordinal + 1);
+        for (Course course : student.getCourses()) {
+            mark(ordinal, course);
+        }
+    }
+
+    @Override
+    public void courseEnrolled(int ordinal, Student student, Course course) {
+        mark(ordinal, course);
+    }
+
+    /**
+     * Every student ordinal seen so far, enrolled or not.
+     */
+    public BitSet all() {
+        BitSet result = new BitSet(studentCount);
+        result.set(0, studentCount);
+        return result;
+    }
+
+    /**
+     * Students with at least one course.
+     */
+    public BitSet enrolled() {
+        return (BitSet) enrolled.clone();
+    }
+
+    /**
+     * Students with at least one course of this grade.
+     */
+    public BitSet withGrade(Grade grade) {
+        return withGrade(grade, MIN_CREDITS, MAX_CREDITS);
+    }
+
+    /**
+     * Students with at least one course of this grade whose credit hours are in the range
+     * (inclusive). Both conditions hold for the same course.
+     */
+    public BitSet withGrade(Grade grade, int minCredits, int maxCredits) {
+        BitSet result = new BitSet(studentCount);
+        for (int c = Math.max(minCredits, MIN_CREDITS); c <= Math.min(maxCredits, MAX_CREDITS); c++) {
+            result.or(cells[grade.ordinal()][c]);
+        }
+        return result;
+    }
+
+    /**
+     * Students with at least one course whose credit hours are in the range (inclusive).
+     */
+    public BitSet withCredits(int minCredits, int maxCredits) {
+        BitSet result = new BitSet(studentCount);
+        for (int g = 0; g < GRADE_COUNT; g++) {
+            for (int c = Math.max(minCredits, MIN_CREDITS); c <= Math.min(maxCredits, MAX_CREDITS); c++) {
+                result.or(cells[g][c]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Students with at least one course, all of them of this grade.
+     */
+    public BitSet withOnly(Grade grade) {
+        BitSet result = enrolled();
+        for (Grade other : Grade.values()) {
+            if (other != grade) {
+                result.andNot(withGrade(other));
+            }
+        }
+        return result;
+    }
+
+    private void mark(int ordinal, Course course) {
+        cells[course.getGrade().ordinal()][course.getCreditHours()].set(ordinal);
+        enrolled.set(ordinal);
+    }
+}
@@ -3,20 +3,172 @@ package com.pmu;
 
 public class GradeCalculator {
 
+    /** Grade codes written by {@link #calculateLetterGrades(int[], byte[])}; equal to the Grade ordinals. */
+    public static final byte GRADE_A = 0;
+    public static final byte GRADE_B = 1;
+    public static final byte GRADE_C = 2;
+    public static final byte GRADE_D = 3;
+    public static final byte GRADE_F = 4;
+    public static final byte INVALID = -1;
+
+    /**
+     * Score-to-code lookup table. Entries 0–100 hold the grade code for that score,
+     * the extra last entry holds INVALID so out-of-range scores can be clamped onto it.
+     */
+    private static final byte[] SCORE_TABLE = new byte[102];
+
+    static {
+        for (int score = 0; score <= 100; score++) {
+            SCORE_TABLE[score] = gradeCode(score);
+        }
+        SCORE_TABLE[101] = INVALID;
+    }
+
+    /**
+     * The SIMD engine needs the incubator module, which is only present when the JVM
+     * was started with --add-modules jdk.incubator.vector.
+     */
+    private static final boolean VECTOR_ENGINE_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
     /**
      * Converts numeric score (0–100) into a letter grade (A–F).
      * If score is invalid, returns "Invalid".
      */
     public  String calculateLetterGrade(int score) {
-        if (score < 0 || score > 100) {
+        byte code = gradeCode(score);
+        if (Metrics.ENABLED) {
+            Metrics.GRADES_CALCULATED.increment();
+            if (code == INVALID) {
+                Metrics.GRADES_INVALID.increment();
+            }
+        }
+        return letterFor(code);
+    }
+
+    /**
+     * Converts every score into a grade code (GRADE_A … GRADE_F, or INVALID for scores
+     * outside 0–100) using the precomputed score table. Writes into the caller's buffer,
+     * so no allocation happens per score.
+     */
+    public void calculateLetterGrades(int[] scores, byte[] out) {
+        calculateLetterGrades(scores, 0, out, 0, scores.length);
+    }
+
+    /**
+     * Range variant of {@link #calculateLetterGrades(int[], byte[])}: classifies
+     * {@code length} scores starting at {@code scoreOffset} into {@code out} at {@code outOffset}.
+     */
+    public void calculateLetterGrades(int[] scores, int scoreOffset, byte[] out, int outOffset, int length) {
+        checkRange(scores, scoreOffset, out, outOffset, length);
+        GradingEvent event = new GradingEvent();
+        event.begin();
+        classifyRange(scores, scoreOffset, out, outOffset, length);
+        if (Metrics.ENABLED) {
+            recordBulk(out, outOffset, length);
+        }
+        commit(event, length, false);
+    }
+
+    /**
+     * Opt-in SIMD variant of {@link #calculateLetterGrades(int[], byte[])}.
+     * Produces the same codes; falls back to the scalar table when the Vector API is not enabled.
+     */
+    public void calculateLetterGradesVectorized(int[] scores, byte[] out) {
+        calculateLetterGradesVectorized(scores, 0, out, 0, scores.length);
+    }
+
+    /**
+     * Range variant of {@link #calculateLetterGradesVectorized(int[], byte[])}.
+     */
+    public void calculateLetterGradesVectorized(int[] scores, int scoreOffset, byte[] out, int outOffset, int length) {
+        if (!VECTOR_ENGINE_AVAILABLE) {
+            calculateLetterGrades(scores, scoreOffset, out, outOffset, length);
+            return;
+        }
+        checkRange(scores, scoreOffset, out, outOffset, length);
+        GradingEvent event = new GradingEvent();
+        event.begin();
+        VectorGradeEngine.classify(scores, scoreOffset, out, outOffset, length);
+        if (Metrics.ENABLED) {
+            recordBulk(out, outOffset, length);
+        }
+        commit(event, length, true);
+    }
+
+    /**
+     * Returns true when bulk grading through the Vector API is active in this JVM.
+     */
+    public static boolean isVectorEngineAvailable() {
+        return VECTOR_ENGINE_AVAILABLE;
+    }
+
+    /**
+     * Maps a grade code back to the letter returned by {@link #calculateLetterGrade(int)}.
+     */
+    public static String letterFor(byte code) {
+        if (code < GRADE_A || code > GRADE_F) {
             return "Invalid";
         }
+        return Grade.fromOrdinal(code).getLetter();
+    }
+
+    /**
+     * Table lookup behind the bulk paths, also used for the SIMD engine's tail.
+     * No range checks or instrumentation; callers have already validated the range.
+     */
+    static void classifyRange(int[] scores, int scoreOffset, byte[] out, int outOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = SCORE_TABLE[tableIndex(scores[scoreOffset + i])];
+        }
+    }
+
+    // Counts the batch in grades.calculated and its INVALID codes in grades.invalid
+    private static void recordBulk(byte[] out, int outOffset, int length) {
+        int invalid = 0;
+        for (int i = 0; i < length; i++) {
+            if (out[outOffset + i] == INVALID) {
+                invalid++;
+            }
+        }
+        Metrics.GRADES_BULK_CALLS.increment();
+        Metrics.GRADES_CALCULATED.add(length);
+        Metrics.GRADES_INVALID.add(invalid);
+    }
+
+    private static void commit(GradingEvent event, int length, boolean vectorized) {
+        if (event.shouldCommit()) {
+            event.scoreCount = length;
+            event.vectorized = vectorized;
+            event.commit();
+        }
+    }
+
+    private static void checkRange(int[] scores, int scoreOffset, byte[] out, int outOffset, int length) {
+        if (scoreOffset < 0 || outOffset < 0 || length < 0
+                || scoreOffset + length > scores.length || outOffset + length > out.length) {
+            throw new IndexOutOfBoundsException("Range does not fit the score or output buffer");
+        }
+    }
+
+    /**
+     * Negative scores become huge when read as unsigned, so a single min() folds
+     * everything outside 0–100 onto the INVALID slot without a branch.
+     */
+    private static int tableIndex(int score) {
+        return (int) Math.min(Integer.toUnsignedLong(score), 101L);
+    }
+
+    private static byte gradeCode(int score) {
+        if (score < 0 || score > 100) {
+            return INVALID;
+        }
 
-        if (score >= 90) return "A";
-        else if (score >= 80) return "B";
-        else if (score >= 70) return "C";
-        else if (score >= 60) return "D";
-        else return "F";
+        if (score >= 90) return GRADE_A;
+        else if (score >= 80) return GRADE_B;
+        else if (score >= 70) return GRADE_C;
+        else if (score >= 60) return GRADE_D;
+        else return GRADE_F;
     }
 
 
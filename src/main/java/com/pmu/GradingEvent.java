@@ -0,0 +1,25 @@
+package com.pmu;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the bulk GradeCalculator paths.
+ */
+@Name("com.pmu.BulkGrading")
+@Label("Bulk Grading")
+@Category({"PMU", "Grading"})
+@Description("An array of scores converted to grade codes")
+@StackTrace(false)
+final class GradingEvent extends jdk.jfr.Event {
+
+    @Label("Score Count")
+    int scoreCount;
+
+    @Label("Vectorized")
+    @Description("Whether the Vector API engine was used")
+    boolean vectorized;
+}
@@ -0,0 +1,287 @@
+package com.pmu;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk import of UTF-8 roster CSV files through memory mapping and parallel parsing.
+ *
+ * The file is cut into chunks on line boundaries. Each chunk is mapped with FileChannel.map
+ * and parsed on its own thread into partial students, working on the raw bytes: credits and
+ * grades are read in place and ids are only decoded when they change. The partials are then
+ * merged in chunk order, so the result is exactly what RosterCsvLoader.loadInto produces for
+ * the same file.
+ */
+public class MappedRosterImporter {
+
+    /** Upper bound for a single mapped chunk (MappedByteBuffer is int-indexed). */
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    private final int threads;
+
+    public MappedRosterImporter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public MappedRosterImporter(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Imports the file into the map with the same merge rules as RosterCsvLoader.loadInto.
+     */
+    public RosterCsvLoader.LoadStats importInto(Path file, Map<String, Student> studentsById) throws IOException {
+        long start = System.nanoTime();
+        int before = studentsById.size();
+
+        List<ChunkResult> results;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel);
+            results = parseChunks(channel, bounds);
+        }
+
+        long rows = 0;
+        for (ChunkResult result : results) {
+            rows += result.rows;
+            for (PartialStudent partial : result.students.values()) {
+                Student student = studentsById.get(partial.id);
+                if (student == null) {
+                    student = new Student(partial.id, partial.name);
+                    studentsById.put(partial.id, student);
+                }
+                for (Course course : partial.courses) {
+                    student.enrollCourse(course);
+                }
+            }
+        }
+        return new RosterCsvLoader.LoadStats(rows, studentsById.size() - before, System.nanoTime() - start);
+    }
+
+    /**
+     * Splits the file into roughly equal ranges, moving each cut just past the next newline.
+     */
+    private long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int chunks = (int) Math.max(threads, (size + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+        List<Long> cuts = new ArrayList<>();
+        cuts.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        for (int i = 1; i < chunks; i++) {
+            long cut = Math.max(size / chunks * i, cuts.get(cuts.size() - 1));
+            cut = nextLineStart(channel, cut, size, probe);
+            if (cut > cuts.get(cuts.size() - 1) && cut < size) {
+                cuts.add(cut);
+            }
+        }
+        cuts.add(size);
+
+        long[] bounds = new long[cuts.size()];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = cuts.get(i);
+            if (i > 0 && bounds[i] - bounds[i - 1] > Integer.MAX_VALUE) {
+                throw new IOException("A single line range exceeds " + Integer.MAX_VALUE + " bytes");
+            }
+        }
+        return bounds;
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer probe)
+            throws IOException {
+        if (position == 0) {
+            return 0;
+        }
+        // A cut is valid when the byte before it is a newline
+        long pos = position - 1;
+        while (pos < size) {
+            probe.clear();
+            int read = channel.read(probe, pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    private List<ChunkResult> parseChunks(FileChannel channel, long[] bounds) throws IOException {
+        int chunkCount = bounds.length - 1;
+        List<ChunkResult> results = new ArrayList<>(chunkCount);
+        if (chunkCount == 1) {
+            results.add(parseChunk(channel, bounds[0], bounds[1]));
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, chunkCount));
+        try {
+            List<Callable<ChunkResult>> tasks = new ArrayList<>(chunkCount);
+            for (int i = 0; i < chunkCount; i++) {
+                long from = bounds[i];
+                long to = bounds[i + 1];
+                tasks.add(() -> parseChunk(channel, from, to));
+            }
+            for (Future<ChunkResult> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Chunk parsing failed", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ChunkResult parseChunk(FileChannel channel, long from, long to) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        ChunkParser parser = new ChunkParser(buffer, from == 0);
+        parser.run();
+        return parser.result;
+    }
+
+    private static final class PartialStudent {
+        final String id;
+        final String name;
+        final List<Course> courses = new ArrayList<>();
+
+        PartialStudent(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static final class ChunkResult {
+        final Map<String, PartialStudent> students = new LinkedHashMap<>();
+        long rows;
+    }
+
+    /**
+     * Parses one mapped chunk; the byte-level mirror of RosterCsvLoader's line parser.
+     */
+    private static final class ChunkParser {
+
+        private final ByteBuffer buffer;
+        private final int[] bounds = new int[RosterFormat.FIELD_COUNT * 2];
+        private final ChunkResult result = new ChunkResult();
+        private boolean firstLine;
+        private byte[] scratch = new byte[256];
+
+        private int previousIdFrom = -1;
+        private int previousIdTo = -1;
+        private PartialStudent current;
+
+        ChunkParser(ByteBuffer buffer, boolean startOfFile) {
+            this.buffer = buffer;
+            this.firstLine = startOfFile;
+        }
+
+        void run() {
+            int limit = buffer.limit();
+            int lineStart = 0;
+            for (int i = 0; i < limit; i++) {
+                if (buffer.get(i) == '\n') {
+                    line(lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            line(lineStart, limit);
+        }
+
+        private void line(int from, int to) {
+            int end = to;
+            if (end > from && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            boolean header = firstLine && RosterFormat.isHeader(buffer, from, end);
+            firstLine = false;
+            if (end == from || header) {
+                return;
+            }
+
+            splitFields(from, end);
+            if (current == null || !sameBytes(previousIdFrom, previousIdTo, bounds[0], bounds[1])) {
+                String id = Student.normalizeId(decode(bounds[0], bounds[1]));
+                current = result.students.get(id);
+                if (current == null) {
+                    current = new PartialStudent(id, Student.normalizeName(decode(bounds[2], bounds[3])));
+                    result.students.put(id, current);
+                }
+            }
+            previousIdFrom = bounds[0];
+            previousIdTo = bounds[1];
+
+            current.courses.add(Course.getInterner().intern(
+                    Course.normalizeCourseName(decode(bounds[4], bounds[5])),
+                    Course.normalizeCreditHours(RosterFormat.parseCredits(buffer, bounds[6], bounds[7])),
+                    RosterFormat.parseGrade(buffer, bounds[8], bounds[9])));
+            result.rows++;
+        }
+
+        private void splitFields(int from, int end) {
+            int field = 0;
+            int start = from;
+            for (int i = from; i < end && field < RosterFormat.FIELD_COUNT - 1; i++) {
+                if (buffer.get(i) == ',') {
+                    bounds[field * 2] = start;
+                    bounds[field * 2 + 1] = i;
+                    field++;
+                    start = i + 1;
+                }
+            }
+            bounds[field * 2] = start;
+            bounds[field * 2 + 1] = end;
+            for (field++; field < RosterFormat.FIELD_COUNT; field++) {
+                bounds[field * 2] = end;
+                bounds[field * 2 + 1] = end;
+            }
+        }
+
+        private boolean sameBytes(int aFrom, int aTo, int bFrom, int bTo) {
+            if (aTo - aFrom != bTo - bFrom) {
+                return false;
+            }
+            for (int i = 0; i < aTo - aFrom; i++) {
+                if (buffer.get(aFrom + i) != buffer.get(bFrom + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String decode(int from, int to) {
+            int length = to - from;
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(from, scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.pmu;
+
+/**
+ * Process-wide metrics for grading, course defaulting, enrollment and GPA calculation.
+ *
+ * Off by default; start the JVM with -Dpmu.metrics.enabled=true to turn it on. ENABLED is a
+ * static final constant, so when it is false the JIT removes every {@code if (Metrics.ENABLED)}
+ * block and the instrumented methods cost the same as uninstrumented ones.
+ */
+public final class Metrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("pmu.metrics.enabled");
+
+    public static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    static final MetricsRegistry.Counter GRADES_CALCULATED = REGISTRY.counter("grades.calculated");
+    static final MetricsRegistry.Counter GRADES_INVALID = REGISTRY.counter("grades.invalid");
+    static final MetricsRegistry.Counter GRADES_BULK_CALLS = REGISTRY.counter("grades.bulk.calls");
+    static final MetricsRegistry.Counter COURSE_NAME_DEFAULTED = REGISTRY.counter("course.name.defaulted");
+    static final MetricsRegistry.Counter COURSE_CREDITS_DEFAULTED = REGISTRY.counter("course.credits.defaulted");
+    static final MetricsRegistry.Counter COURSE_GRADE_DEFAULTED = REGISTRY.counter("course.grade.defaulted");
+    static final MetricsRegistry.Counter ENROLLMENTS = REGISTRY.counter("student.enrollments");
+    static final MetricsRegistry.Counter GPA_CALCULATIONS = REGISTRY.counter("student.gpa.calculations");
+    static final LatencyHistogram ENROLL_LATENCY = REGISTRY.histogram("student.enroll.latency");
+    static final LatencyHistogram GPA_LATENCY = REGISTRY.histogram("student.gpa.latency");
+
+    private Metrics() {
+    }
+}
@@ -0,0 +1,91 @@
+package com.pmu;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named counters and latency histograms, created on first use and shared afterwards.
+ * Instruments are lock-free; look them up once and keep the reference on hot paths.
+ */
+public class MetricsRegistry {
+
+    /**
+     * Monotonic count backed by a LongAdder, so concurrent increments do not contend.
+     */
+    public static final class Counter {
+
+        private final String name;
+        private final LongAdder value = new LongAdder();
+
+        Counter(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long amount) {
+            value.add(amount);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+
+        void reset() {
+            value.reset();
+        }
+    }
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Current value of every counter, sorted by name.
+     */
+    public Map<String, Long> getCounterValues() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.get()));
+        return values;
+    }
+
+    /**
+     * Every histogram, sorted by name.
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Zeroes every instrument; references held by callers stay valid.
+     */
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * One line per instrument, for logs.
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        getCounterValues().forEach((name, value) -> out.append(name).append(' ').append(value).append('\n'));
+        getHistograms().values().forEach(histogram -> out.append(histogram).append('\n'));
+        return out.toString();
+    }
+}
@@ -0,0 +1,260 @@
+package com.pmu;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Enrollment records kept outside the Java heap, so loading years of history does not
+ * add millions of Course objects for the GC to trace.
+ *
+ * Each record is a fixed 8-byte slot: student index (int), credit hours (byte),
+ * grade ordinal (byte) and two bytes of padding. GPAs are computed by scanning the
+ * records directly, with the same rules as Student.calculateGPA.
+ *
+ * The memory is released by {@link #close()}, not by the garbage collector; the store
+ * cannot be used afterwards. Stores cannot be created on a JVM that does not allow
+ * explicit freeing. Not thread-safe.
+ */
+public class OffHeapEnrollmentStore implements AutoCloseable {
+
+    static final int RECORD_SIZE = 8;
+    private static final int STUDENT_OFFSET = 0;
+    private static final int CREDITS_OFFSET = 4;
+    private static final int GRADE_OFFSET = 5;
+
+    /** Largest record count a single direct buffer can address. */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private ByteBuffer records;
+    private int capacity;
+    private int size;
+    private int studentCount;
+
+    // Reused by computeAllGpas so repeated runs do not allocate
+    private int[] creditScratch = new int[0];
+
+    /**
+     * Creates a store with room for {@code initialCapacity} records; it grows by doubling when full.
+     *
+     * @throws UnsupportedOperationException if this JVM cannot free direct buffers explicitly
+     */
+    public OffHeapEnrollmentStore(int initialCapacity) {
+        DirectMemory.requireAvailable();
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("initialCapacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.records = allocate(initialCapacity);
+        this.capacity = initialCapacity;
+    }
+
+    /**
+     * Copies a student's courses into the store under the given student index.
+     */
+    public void append(int studentIndex, Student student) {
+        for (Course course : student.getCourses()) {
+            append(studentIndex, course);
+        }
+    }
+
+    /**
+     * Appends one enrollment; a null course is ignored, as in Student.enrollCourse.
+     */
+    public void append(int studentIndex, Course course) {
+        if (course != null) {
+            append(studentIndex, course.getCreditHours(), course.getGrade());
+        }
+    }
+
+    /**
+     * Appends one enrollment, applying Course's credit-hour default to out-of-range values.
+     */
+    public void append(int studentIndex, int creditHours, Grade grade) {
+        ensureOpen();
+        if (studentIndex < 0) {
+            throw new IllegalArgumentException("studentIndex must not be negative");
+        }
+        if (grade == null) {
+            throw new IllegalArgumentException("grade must not be null");
+        }
+        if (size == capacity) {
+            grow();
+        }
+        int offset = size * RECORD_SIZE;
+        records.putInt(offset + STUDENT_OFFSET, studentIndex);
+        records.put(offset + CREDITS_OFFSET, (byte) Course.normalizeCreditHours(creditHours));
+        records.put(offset + GRADE_OFFSET, (byte) grade.ordinal());
+        size++;
+        studentCount = Math.max(studentCount, studentIndex + 1);
+    }
+
+    /**
+     * Number of enrollment records.
+     */
+    public int size() {
+        ensureOpen();
+        return size;
+    }
+
+    /**
+     * One past the highest student index appended so far.
+     */
+    public int getStudentCount() {
+        ensureOpen();
+        return studentCount;
+    }
+
+    /**
+     * Off-heap bytes currently reserved.
+     */
+    public long getReservedBytes() {
+        ensureOpen();
+        return (long) capacity * RECORD_SIZE;
+    }
+
+    /**
+     * Computes the GPA of every student index below {@link #getStudentCount()} in one scan.
+     * Students without records get 0.0; results are capped at 4.0.
+     */
+    public void computeAllGpas(double[] out) {
+        ensureOpen();
+        if (out.length < studentCount) {
+            throw new IllegalArgumentException("Output array holds " + out.length
+                    + " GPAs but the store has " + studentCount + " students");
+        }
+        if (creditScratch.length < studentCount) {
+            creditScratch = new int[Math.max(studentCount, creditScratch.length * 2)];
+        }
+        int[] credits = creditScratch;
+        Arrays.fill(out, 0, studentCount, 0.0);
+        Arrays.fill(credits, 0, studentCount, 0);
+
+        ByteBuffer buffer = records;
+        int end = size * RECORD_SIZE;
+        for (int offset = 0; offset < end; offset += RECORD_SIZE) {
+            int student = buffer.getInt(offset + STUDENT_OFFSET);
+            int hours = buffer.get(offset + CREDITS_OFFSET);
+            out[student] += Grade.gradePointOf(buffer.get(offset + GRADE_OFFSET)) * hours;
+            credits[student] += hours;
+        }
+
+        for (int i = 0; i < studentCount; i++) {
+            int c = credits[i];
+            double gpa = c == 0 ? 0.0 : out[i] / c;
+            out[i] = Math.min(gpa, 4.0);
+        }
+    }
+
+    /**
+     * GPA of a single student, scanning every record.
+     */
+    public double computeGpa(int studentIndex) {
+        ensureOpen();
+        double totalPoints = 0.0;
+        int totalCredits = 0;
+
+        ByteBuffer buffer = records;
+        int end = size * RECORD_SIZE;
+        for (int offset = 0; offset < end; offset += RECORD_SIZE) {
+            if (buffer.getInt(offset + STUDENT_OFFSET) == studentIndex) {
+                int hours = buffer.get(offset + CREDITS_OFFSET);
+                totalPoints += Grade.gradePointOf(buffer.get(offset + GRADE_OFFSET)) * hours;
+                totalCredits += hours;
+            }
+        }
+        if (totalCredits == 0) {
+            return 0.0;
+        }
+        return Math.min(totalPoints / totalCredits, 4.0);
+    }
+
+    public boolean isClosed() {
+        return records == null;
+    }
+
+    /**
+     * Frees the off-heap memory immediately. Calling close more than once is allowed.
+     */
+    @Override
+    public void close() {
+        if (records != null) {
+            DirectMemory.free(records);
+            records = null;
+        }
+    }
+
+    private void grow() {
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Off-heap store is full (" + MAX_CAPACITY + " records)");
+        }
+        int newCapacity = (int) Math.min((long) capacity * 2, MAX_CAPACITY);
+        ByteBuffer grown = allocate(newCapacity);
+        ByteBuffer old = records;
+        grown.put(0, old, 0, size * RECORD_SIZE);
+        records = grown;
+        capacity = newCapacity;
+        DirectMemory.free(old);
+    }
+
+    private void ensureOpen() {
+        if (records == null) {
+            throw new IllegalStateException("Off-heap store is closed");
+        }
+    }
+
+    private static ByteBuffer allocate(int recordCapacity) {
+        return ByteBuffer.allocateDirect(recordCapacity * RECORD_SIZE).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Releases direct buffers deterministically through sun.misc.Unsafe.invokeCleaner, which
+     * jdk.unsupported keeps accessible without extra JVM flags. It is looked up reflectively so
+     * the build does not depend on the internal API; if the lookup fails, stores cannot be
+     * created rather than silently leaving their memory to the GC.
+     */
+    private static final class DirectMemory {
+
+        private static final MethodHandle INVOKE_CLEANER;
+        private static final ReflectiveOperationException UNAVAILABLE;
+
+        static {
+            MethodHandle invokeCleaner = null;
+            ReflectiveOperationException unavailable = null;
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                invokeCleaner = MethodHandles.lookup()
+                        .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                        .bindTo(field.get(null));
+            } catch (ReflectiveOperationException e) {
+                unavailable = e;
+            } catch (RuntimeException e) {
+                unavailable = new ReflectiveOperationException("sun.misc.Unsafe is not accessible", e);
+            }
+            INVOKE_CLEANER = invokeCleaner;
+            UNAVAILABLE = unavailable;
+        }
+
+        static void requireAvailable() {
+            if (INVOKE_CLEANER == null) {
+                throw new UnsupportedOperationException(
+                        "Off-heap store needs sun.misc.Unsafe.invokeCleaner to free memory explicitly", UNAVAILABLE);
+            }
+        }
+
+        static void free(ByteBuffer buffer) {
+            try {
+                INVOKE_CLEANER.invokeExact(buffer);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Could not free off-heap memory", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.pmu;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A student shared between threads as a sequence of immutable {@link StudentSnapshot}s held
+ * in an AtomicReference. Readers take {@link #snapshot()} and never lock or see a partly
+ * applied enrollment; writers build the next snapshot and publish it with compare-and-set,
+ * retrying if another writer got there first.
+ */
+public class PublishedStudent {
+
+    private final AtomicReference<StudentSnapshot> current;
+
+    public PublishedStudent(String id, String name) {
+        this(StudentSnapshot.of(id, name));
+    }
+
+    public PublishedStudent(StudentSnapshot initial) {
+        if (initial == null) {
+            throw new IllegalArgumentException("initial snapshot must not be null");
+        }
+        this.current = new AtomicReference<>(initial);
+    }
+
+    /**
+     * Current state; later enrollments do not change the returned snapshot.
+     */
+    public StudentSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Enrolls the course and returns the snapshot that includes it; a null course is ignored.
+     */
+    public StudentSnapshot enrollCourse(Course course) {
+        if (course == null) {
+            return current.get();
+        }
+        return current.updateAndGet(snapshot -> snapshot.withCourse(course));
+    }
+
+    public double calculateGPA() {
+        return current.get().calculateGPA();
+    }
+}
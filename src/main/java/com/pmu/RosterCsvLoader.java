@@ -0,0 +1,242 @@
+package com.pmu;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streams roster CSV lines ({@code studentId,name,course,credits,grade}) into Student
+ * objects without holding the file in memory.
+ *
+ * Input is read through one reusable char buffer. Credits and grades are parsed in place,
+ * and courses come from Course.of, so repeated course rows share one instance. Ids, names,
+ * credits and grades get the same defaults as the Student and Course constructors. An
+ * optional header row is skipped, as are blank lines; a student's name is taken from its
+ * first row.
+ */
+public class RosterCsvLoader {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Counts for one load, with elapsed wall-clock time.
+     */
+    public record LoadStats(long rows, long students, long elapsedNanos) {
+
+        public double rowsPerSecond() {
+            if (elapsedNanos <= 0) {
+                return 0.0;
+            }
+            return rows * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+
+    private final int bufferSize;
+
+    public RosterCsvLoader() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public RosterCsvLoader(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be at least 1");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Streams students to the sink as soon as their rows end. Only one student is held at a
+     * time, so rows must be grouped by student id; an id that shows up again later in the
+     * file is delivered as a second Student.
+     */
+    public LoadStats stream(Reader in, Consumer<Student> sink) throws IOException {
+        long start = System.nanoTime();
+        StreamingHandler handler = new StreamingHandler(sink);
+        long rows = parse(in, handler);
+        handler.flush();
+        return new LoadStats(rows, handler.students, System.nanoTime() - start);
+    }
+
+    /**
+     * Loads rows in any order, merging them by (defaulted) student id into the given map.
+     * Students already in the map are extended rather than replaced; use a LinkedHashMap
+     * to keep first-appearance order.
+     */
+    public LoadStats loadInto(Reader in, Map<String, Student> studentsById) throws IOException {
+        long start = System.nanoTime();
+        int before = studentsById.size();
+        long rows = parse(in, new MergingHandler(studentsById));
+        return new LoadStats(rows, studentsById.size() - before, System.nanoTime() - start);
+    }
+
+    private interface RowHandler {
+        /**
+         * @param rawId     id field as written (not yet defaulted); the same instance is
+         *                  passed again for consecutive rows with an equal id
+         * @param idChanged false when this row has the same id as the previous row
+         */
+        void row(String rawId, boolean idChanged, char[] line, int nameFrom, int nameTo, Course course);
+    }
+
+    private long parse(Reader in, RowHandler handler) throws IOException {
+        char[] buffer = new char[bufferSize];
+        LineParser parser = new LineParser(handler);
+        int read;
+        while ((read = in.read(buffer, 0, buffer.length)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (c == '\n') {
+                    parser.endLine();
+                } else {
+                    parser.append(c);
+                }
+            }
+        }
+        parser.endLine(); // last line may have no trailing newline
+        return parser.rows;
+    }
+
+    /**
+     * Accumulates one line at a time in a reusable buffer and hands each row to the handler.
+     */
+    private static final class LineParser {
+
+        private final RowHandler handler;
+        private final int[] bounds = new int[RosterFormat.FIELD_COUNT * 2];
+        private char[] line = new char[256];
+        private int length;
+        private String previousId;
+        private boolean firstLine = true;
+        private long rows;
+
+        LineParser(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        void append(char c) {
+            if (length == line.length) {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+            line[length++] = c;
+        }
+
+        void endLine() {
+            int end = length;
+            length = 0;
+            if (end > 0 && line[end - 1] == '\r') {
+                end--;
+            }
+            boolean header = firstLine && RosterFormat.isHeader(line, 0, end);
+            firstLine = false;
+            if (end == 0 || header) {
+                return;
+            }
+
+            splitFields(line, end, bounds);
+            String rawId;
+            boolean idChanged;
+            if (previousId != null && regionEquals(previousId, line, bounds[0], bounds[1])) {
+                rawId = previousId;
+                idChanged = false;
+            } else {
+                rawId = new String(line, bounds[0], bounds[1] - bounds[0]);
+                idChanged = true;
+            }
+            previousId = rawId;
+
+            Course course = Course.getInterner().intern(
+                    Course.normalizeCourseName(new String(line, bounds[4], bounds[5] - bounds[4])),
+                    Course.normalizeCreditHours(RosterFormat.parseCredits(line, bounds[6], bounds[7])),
+                    RosterFormat.parseGrade(line, bounds[8], bounds[9]));
+            handler.row(rawId, idChanged, line, bounds[2], bounds[3], course);
+            rows++;
+        }
+    }
+
+    /**
+     * Fills bounds with [from, to) pairs for the five fields; missing fields are empty.
+     */
+    private static void splitFields(char[] line, int end, int[] bounds) {
+        int field = 0;
+        int start = 0;
+        for (int i = 0; i < end && field < RosterFormat.FIELD_COUNT - 1; i++) {
+            if (line[i] == ',') {
+                bounds[field * 2] = start;
+                bounds[field * 2 + 1] = i;
+                field++;
+                start = i + 1;
+            }
+        }
+        bounds[field * 2] = start;
+        bounds[field * 2 + 1] = end;
+        for (field++; field < RosterFormat.FIELD_COUNT; field++) {
+            bounds[field * 2] = end;
+            bounds[field * 2 + 1] = end;
+        }
+    }
+
+    private static boolean regionEquals(String value, char[] line, int from, int to) {
+        if (value.length() != to - from) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i - from) != line[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class StreamingHandler implements RowHandler {
+
+        private final Consumer<Student> sink;
+        private Student current;
+        private long students;
+
+        StreamingHandler(Consumer<Student> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void row(String rawId, boolean idChanged, char[] line, int nameFrom, int nameTo, Course course) {
+            if (idChanged || current == null) {
+                flush();
+                current = new Student(rawId, new String(line, nameFrom, nameTo - nameFrom));
+            }
+            current.enrollCourse(course);
+        }
+
+        void flush() {
+            if (current != null) {
+                sink.accept(current);
+                students++;
+                current = null;
+            }
+        }
+    }
+
+    private static final class MergingHandler implements RowHandler {
+
+        private final Map<String, Student> studentsById;
+        private Student current;
+
+        MergingHandler(Map<String, Student> studentsById) {
+            this.studentsById = studentsById;
+        }
+
+        @Override
+        public void row(String rawId, boolean idChanged, char[] line, int nameFrom, int nameTo, Course course) {
+            if (idChanged || current == null) {
+                String id = Student.normalizeId(rawId);
+                current = studentsById.get(id);
+                if (current == null) {
+                    current = new Student(id, new String(line, nameFrom, nameTo - nameFrom));
+                    studentsById.put(id, current);
+                }
+            }
+            current.enrollCourse(course);
+        }
+    }
+}
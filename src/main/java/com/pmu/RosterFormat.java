@@ -0,0 +1,133 @@
+package com.pmu;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Field rules for roster CSV lines ({@code studentId,name,course,credits,grade}), shared by
+ * the loaders so every import path turns the same text into the same Student and Course values.
+ *
+ * Fields are not trimmed or unquoted. Missing trailing fields count as empty, and anything
+ * after the fourth comma belongs to the grade field.
+ */
+final class RosterFormat {
+
+    static final String HEADER = "studentId,name,course,credits,grade";
+    static final int FIELD_COUNT = 5;
+
+    private RosterFormat() {
+    }
+
+    /**
+     * Parses an optionally signed decimal credit-hour field. Text that is not a number
+     * gives 0, which Course then replaces with its default; very large values saturate.
+     */
+    static int parseCredits(char[] line, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (line[i] == '+' || line[i] == '-')) {
+            negative = line[i] == '-';
+            i++;
+        }
+        if (i == to) {
+            return 0;
+        }
+        int value = 0;
+        for (; i < to; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return 0;
+            }
+            // Anything past this is out of Course's range anyway
+            value = Math.min(value * 10 + digit, 1_000_000);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a grade field with Course's rules: exactly one of A, B, C, D, F, otherwise F.
+     */
+    static Grade parseGrade(char[] line, int from, int to) {
+        if (to - from != 1) {
+            return Grade.F;
+        }
+        Grade grade = Grade.fromLetter(line[from]);
+        return grade != null ? grade : Grade.F;
+    }
+
+    /**
+     * True when the line is the optional header row (case-insensitive).
+     */
+    static boolean isHeader(char[] line, int from, int to) {
+        if (to - from != HEADER.length()) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length(); i++) {
+            if (!headerCharMatches(line[from + i], i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Byte form of {@link #parseCredits(char[], int, int)} for UTF-8 input read straight from a buffer.
+     */
+    static int parseCredits(ByteBuffer line, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (line.get(i) == '+' || line.get(i) == '-')) {
+            negative = line.get(i) == '-';
+            i++;
+        }
+        if (i == to) {
+            return 0;
+        }
+        int value = 0;
+        for (; i < to; i++) {
+            int digit = line.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return 0;
+            }
+            value = Math.min(value * 10 + digit, 1_000_000);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Byte form of {@link #parseGrade(char[], int, int)}.
+     */
+    static Grade parseGrade(ByteBuffer line, int from, int to) {
+        if (to - from != 1) {
+            return Grade.F;
+        }
+        Grade grade = Grade.fromLetter((char) (line.get(from) & 0xFF));
+        return grade != null ? grade : Grade.F;
+    }
+
+    /**
+     * Byte form of {@link #isHeader(char[], int, int)}; the header is plain ASCII.
+     */
+    static boolean isHeader(ByteBuffer line, int from, int to) {
+        if (to - from != HEADER.length()) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length(); i++) {
+            if (!headerCharMatches((char) (line.get(from + i) & 0xFF), i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ASCII-only case folding so the char and byte paths agree on every input
+    private static boolean headerCharMatches(char c, int index) {
+        char expected = HEADER.charAt(index);
+        if (c >= 'A' && c <= 'Z') {
+            c = (char) (c + ('a' - 'A'));
+        }
+        if (expected >= 'A' && expected <= 'Z') {
+            expected = (char) (expected + ('a' - 'A'));
+        }
+        return c == expected;
+    }
+}
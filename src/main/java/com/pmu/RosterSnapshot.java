@@ -0,0 +1,374 @@
+package com.pmu;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned binary snapshot of students and their courses, for fast warm starts.
+ *
+ * Layout (little-endian):
+ * <pre>
+ * header      magic "PMUS", int version, int studentCount, long enrollmentCount,
+ *             int courseNameCount, long dictionaryOffset, long journalSequence (version 2)
+ * students    per student: id, name (int length + UTF-8 bytes), int courseCount,
+ *             then courseCount packed 6-byte records: int courseNameIndex, byte credits, byte gradeOrdinal
+ * dictionary  courseNameCount strings (int length + UTF-8 bytes)
+ * </pre>
+ * The dictionary is written last so snapshots can be streamed without knowing the cohort
+ * up front; the header is patched when the writer closes. Reading maps the file in windows of
+ * up to 1 GiB and decodes the fixed-width course records in place.
+ *
+ * journalSequence is the last EnrollmentJournal sequence the snapshot covers, or -1 when it
+ * was not taken as a journal checkpoint. Version 1 snapshots have no such field and read as -1.
+ */
+public final class RosterSnapshot {
+
+    static final int MAGIC = 0x53554D50; // "PMUS" as little-endian bytes
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 4 + 8 + 8;
+    static final int V1_HEADER_SIZE = HEADER_SIZE - 8;
+    static final long NO_JOURNAL_SEQUENCE = -1;
+    static final int RECORD_SIZE = 6;
+
+    private static final int GRADE_COUNT = Grade.values().length;
+    private static final int CREDIT_SLOTS = 6;
+
+    /** Largest region mapped at once; bigger snapshots are read through several windows. */
+    private static final long MAX_WINDOW_BYTES = 1L << 30;
+
+    private RosterSnapshot() {
+    }
+
+    /**
+     * Writes all students to a new snapshot file, replacing any existing file.
+     */
+    public static void write(Path file, Iterable<Student> students) throws IOException {
+        write(file, students, NO_JOURNAL_SEQUENCE);
+    }
+
+    /**
+     * Writes all students to a new snapshot file that covers the journal up to and including
+     * {@code journalSequence}.
+     */
+    public static void write(Path file, Iterable<Student> students, long journalSequence) throws IOException {
+        try (Writer writer = new Writer(file, journalSequence)) {
+            for (Student student : students) {
+                writer.write(student);
+            }
+        }
+    }
+
+    /**
+     * Loads a snapshot back into Student objects, in the order they were written.
+     * Courses are shared through the Course intern cache.
+     */
+    public static List<Student> read(Path file) throws IOException {
+        return read(file, MAX_WINDOW_BYTES);
+    }
+
+    /**
+     * read with mapping windows of at most windowBytes; each student must fit in one window.
+     */
+    static List<Student> read(Path file, long windowBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < V1_HEADER_SIZE) {
+                throw new IOException("Not a roster snapshot: file too short");
+            }
+            return new Reader(channel, windowBytes).read();
+        }
+    }
+
+    /**
+     * Last journal sequence covered by the snapshot, or -1 if it was not written by a checkpoint.
+     */
+    public static long readJournalSequence(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate((int) Math.min(channel.size(), HEADER_SIZE))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Snapshot truncated while reading the header");
+                }
+            }
+            if (header.limit() < V1_HEADER_SIZE) {
+                throw new IOException("Not a roster snapshot: file too short");
+            }
+            int headerSize = headerSize(header);
+            if (header.limit() < headerSize) {
+                throw new IOException("Not a roster snapshot: file too short");
+            }
+            return headerSize == HEADER_SIZE ? header.getLong(32) : NO_JOURNAL_SEQUENCE;
+        }
+    }
+
+    // Checks magic and version, returning where the student section starts
+    private static int headerSize(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a roster snapshot: bad magic number");
+        }
+        int version = buffer.getInt(4);
+        if (version == 1) {
+            return V1_HEADER_SIZE;
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + " (expected " + VERSION + ")");
+        }
+        return HEADER_SIZE;
+    }
+
+    /**
+     * Walks a snapshot through read-only mappings of at most windowBytes, so files larger than
+     * one MappedByteBuffer can be loaded. Windows are only moved to the start of a student or
+     * dictionary string, and each of those is decoded from a single window.
+     */
+    private static final class Reader {
+
+        private final FileChannel channel;
+        private final long size;
+        private final long windowBytes;
+        private ByteBuffer window;
+        private long windowStart;
+
+        Reader(FileChannel channel, long windowBytes) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.windowBytes = windowBytes;
+        }
+
+        List<Student> read() throws IOException {
+            ByteBuffer header = map(0, V1_HEADER_SIZE);
+            int headerSize = headerSize(header);
+            if (size < headerSize) {
+                throw new IOException("Not a roster snapshot: file too short");
+            }
+            int studentCount = header.getInt(8);
+            int courseNameCount = header.getInt(20);
+            long dictionaryOffset = header.getLong(24);
+            if (studentCount < 0 || courseNameCount < 0 || dictionaryOffset < headerSize
+                    || dictionaryOffset > size) {
+                throw new IOException("Corrupt snapshot header");
+            }
+
+            long position = dictionaryOffset;
+            String[] courseNames = new String[courseNameCount];
+            for (int i = 0; i < courseNameCount; i++) {
+                int length = stringLength(position, position, size);
+                courseNames[i] = string(map(position, 4L + length), position);
+                position += 4L + length;
+            }
+
+            // One shared Course per (name, credits, grade), resolved lazily
+            Course[] courses = new Course[courseNameCount * CREDIT_SLOTS * GRADE_COUNT];
+            CourseInterner interner = Course.getInterner();
+
+            List<Student> students = new ArrayList<>(studentCount);
+            position = headerSize;
+            for (int s = 0; s < studentCount; s++) {
+                // Size the whole student first so it is decoded from one window
+                int idLength = stringLength(position, position, dictionaryOffset);
+                long namePosition = position + 4 + idLength;
+                int nameLength = stringLength(position, namePosition, dictionaryOffset);
+                long countPosition = namePosition + 4 + nameLength;
+                int courseCount = intAt(position, countPosition, dictionaryOffset);
+                long end = countPosition + 4 + (long) courseCount * RECORD_SIZE;
+                if (courseCount < 0 || end > dictionaryOffset) {
+                    throw new IOException("Corrupt course count " + courseCount);
+                }
+
+                ByteBuffer buffer = map(position, end - position);
+                Student student = new Student(string(buffer, position), string(buffer, namePosition));
+                int offset = offset(countPosition + 4);
+                for (int c = 0; c < courseCount; c++, offset += RECORD_SIZE) {
+                    int nameIndex = buffer.getInt(offset);
+                    int credits = buffer.get(offset + 4);
+                    int grade = buffer.get(offset + 5);
+                    if (nameIndex < 0 || nameIndex >= courseNameCount || credits < 1 || credits > CREDIT_SLOTS
+                            || grade < 0 || grade >= GRADE_COUNT) {
+                        throw new IOException("Corrupt enrollment record for student " + student.getId());
+                    }
+                    int slot = (nameIndex * CREDIT_SLOTS + credits - 1) * GRADE_COUNT + grade;
+                    Course course = courses[slot];
+                    if (course == null) {
+                        course = interner.intern(courseNames[nameIndex], credits, Grade.fromOrdinal(grade));
+                        courses[slot] = course;
+                    }
+                    student.enrollCourse(course);
+                }
+                students.add(student);
+                position = end;
+            }
+            return students;
+        }
+
+        // Length prefix of the string at position, checked against the section ending at limit
+        private int stringLength(long entry, long position, long limit) throws IOException {
+            int length = intAt(entry, position, limit);
+            if (length < 0 || position + 4 + length > limit) {
+                throw new IOException("Corrupt string length " + length);
+            }
+            return length;
+        }
+
+        // Int at position, read through a window that starts no later than entry
+        private int intAt(long entry, long position, long limit) throws IOException {
+            if (position + 4 > limit) {
+                throw new IOException("Snapshot truncated at offset " + position);
+            }
+            return map(entry, position + 4 - entry).getInt(offset(position));
+        }
+
+        private String string(ByteBuffer buffer, long position) {
+            int offset = offset(position);
+            byte[] bytes = new byte[buffer.getInt(offset)];
+            buffer.get(offset + 4, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int offset(long position) {
+            return (int) (position - windowStart);
+        }
+
+        // Returns a window holding [position, position + length), remapping at position if needed
+        private ByteBuffer map(long position, long length) throws IOException {
+            if (window != null && position >= windowStart && position + length <= windowStart + window.limit()) {
+                return window;
+            }
+            if (length > windowBytes) {
+                throw new IOException("Snapshot entry of " + length + " bytes at offset " + position
+                        + " does not fit a " + windowBytes + "-byte mapping window");
+            }
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowBytes, size - position))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            return window;
+        }
+    }
+
+    /**
+     * Streams students into a snapshot file. The file is only valid once {@link #close()} has run.
+     */
+    public static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+        private final Map<String, Integer> courseNameIndex = new HashMap<>();
+        private final List<String> courseNames = new ArrayList<>();
+        private final long journalSequence;
+        private long position = HEADER_SIZE;
+        private int studentCount;
+        private long enrollmentCount;
+        private boolean closed;
+
+        public Writer(Path file) throws IOException {
+            this(file, NO_JOURNAL_SEQUENCE);
+        }
+
+        /**
+         * @param journalSequence last journal sequence the snapshot covers, or -1
+         */
+        public Writer(Path file, long journalSequence) throws IOException {
+            this.journalSequence = journalSequence;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        public void write(Student student) throws IOException {
+            if (closed) {
+                throw new IllegalStateException("Snapshot writer is closed");
+            }
+            if (studentCount == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Snapshot is full");
+            }
+            writeString(student.getId());
+            writeString(student.getName());
+            List<Course> courses = student.getCourses();
+            ensureRoom(4);
+            buffer.putInt(courses.size());
+            for (Course course : courses) {
+                ensureRoom(RECORD_SIZE);
+                buffer.putInt(courseNameId(course.getCourseName()));
+                buffer.put((byte) course.getCreditHours());
+                buffer.put((byte) course.getGrade().ordinal());
+            }
+            studentCount++;
+            enrollmentCount += courses.size();
+        }
+
+        /**
+         * Appends the dictionary, patches the header and closes the file.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                flush();
+                long dictionaryOffset = position;
+                for (String name : courseNames) {
+                    writeString(name);
+                }
+                flush();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(studentCount).putLong(enrollmentCount)
+                        .putInt(courseNames.size()).putLong(dictionaryOffset).putLong(journalSequence).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+            } finally {
+                channel.close();
+            }
+        }
+
+        private int courseNameId(String name) {
+            Integer existing = courseNameIndex.get(name);
+            if (existing != null) {
+                return existing;
+            }
+            int id = courseNames.size();
+            courseNames.add(name);
+            courseNameIndex.put(name, id);
+            return id;
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensureRoom(4);
+            buffer.putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRoom(1);
+                int chunk = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        private void ensureRoom(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+    }
+}
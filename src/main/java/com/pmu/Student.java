@@ -1,37 +1,70 @@
 package com.pmu;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class Student {
+    /** Id assigned when the constructor gets a null or empty id. */
+    public static final String DEFAULT_ID = "0000";
+
     private String id;
     private String name;
     private List<Course> courses;
+    private List<Course> coursesView;
+
+    // Running totals kept in step with courses so calculateGPA does not walk the list
+    private double totalPoints;
+    private int totalCredits;
 
     public Student(String id, String name) {
+        this.id = normalizeId(id);
+        this.name = normalizeName(name);
+
+        this.courses = new ArrayList<>();
+        this.coursesView = Collections.unmodifiableList(courses);
+    }
+
+    static String normalizeId(String id) {
         if (id == null || id.isEmpty()) {
-            this.id = "0000";
-        } else {
-            this.id = id;
+            return DEFAULT_ID;
         }
+        return id;
+    }
 
+    static String normalizeName(String name) {
         if (name == null || name.isEmpty()) {
-            this.name = "Unknown";
-        } else {
-            this.name = name;
+            return "Unknown";
         }
-
-        this.courses = new ArrayList<>();
+        return name;
     }
 
     public void enrollCourse(Course course) {
         if (course != null) {
+            EnrollmentEvent event = new EnrollmentEvent();
+            event.begin();
+            long start = Metrics.ENABLED ? System.nanoTime() : 0L;
             courses.add(course);
+            totalPoints += course.getGradePoint() * course.getCreditHours();
+            totalCredits += course.getCreditHours();
+            if (Metrics.ENABLED) {
+                Metrics.ENROLLMENTS.increment();
+                Metrics.ENROLL_LATENCY.recordSince(start);
+            }
+            if (event.shouldCommit()) {
+                event.studentId = id;
+                event.courseName = course.getCourseName();
+                event.courseCount = courses.size();
+                event.commit();
+            }
         }
     }
 
+    /**
+     * Returns a read-only view of the enrolled courses; use enrollCourse to add to it.
+     */
     public List<Course> getCourses() {
-        return courses;
+        return coursesView;
     }
 
     public String getId() {
@@ -42,20 +75,52 @@ public class Student {
         return name;
     }
 
-    public double calculateGPA() {
-        if (courses.isEmpty()) {
-            return 0.0;
-        }
+    /**
+     * Sum of credit hours over all enrolled courses.
+     */
+    public int getTotalCredits() {
+        return totalCredits;
+    }
 
-        double totalPoints = 0.0;
-        int totalCredits = 0;
+    /**
+     * Sum of grade point times credit hours over all enrolled courses.
+     */
+    public double getTotalQualityPoints() {
+        return totalPoints;
+    }
 
-        for (Course c : courses) {
-            totalPoints += c.getGradePoint() * c.getCreditHours();
-            totalCredits += c.getCreditHours();
+    public double calculateGPA() {
+        return calculateGPA(totalPoints, totalCredits, courses.size());
+    }
+
+    /**
+     * calculateGPA for totals read elsewhere, e.g. under a lock held by the caller: computes
+     * the GPA and records its metrics and JFR event once.
+     */
+    double calculateGPA(double points, int credits, int courseCount) {
+        GpaCalculationEvent event = new GpaCalculationEvent();
+        event.begin();
+        double gpa;
+        if (Metrics.ENABLED) {
+            long start = System.nanoTime();
+            gpa = computeGPA(points, credits);
+            Metrics.GPA_CALCULATIONS.increment();
+            Metrics.GPA_LATENCY.recordSince(start);
+        } else {
+            gpa = computeGPA(points, credits);
+        }
+        if (event.shouldCommit()) {
+            event.studentId = id;
+            event.courseCount = courseCount;
+            event.gpa = gpa;
+            event.commit();
         }
-//note, we cant reach this so coverage wont be 100% 
-//(we are setting a minimum and a maximum value for credits so 0 just gets replaced with something else)
+        return gpa;
+    }
+
+    private static double computeGPA(double totalPoints, int totalCredits) {
+        // totals are accumulated in enrollment order, so they match a fresh pass over courses;
+        // every course has at least one credit, so zero credits means no courses yet
         if (totalCredits == 0) {
             return 0.0;
         }
@@ -0,0 +1,181 @@
+package com.pmu;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Index from student id to Student, using open addressing with linear probing over
+ * parallel arrays (no HashMap entry objects), so lookups do not allocate.
+ *
+ * Real ids are unique: registering a second student under an id that is already taken
+ * throws. The default id that Student assigns to null or empty ids is shared by unrelated
+ * students, so every student with that id is kept; {@link #get(String)} returns the first one
+ * and {@link #getAll(String)} returns all of them. The table holds a single slot for the default
+ * id and the students behind it live in a side list, so thousands of defaulted ids never form
+ * one long probe run.
+ *
+ * Not thread-safe.
+ */
+public class StudentRegistry {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] keys;
+    private Student[] values;
+    private int[] hashes;
+    private int mask;
+    private int occupied;
+    private int size;
+
+    // Every student registered under the default id, in registration order
+    private final List<Student> defaultStudents = new ArrayList<>();
+    private final Set<Student> defaultMembers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public StudentRegistry() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Sizes the table so {@code expectedSize} students fit without resizing.
+     */
+    public StudentRegistry(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative");
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Adds the student under its id. Returns false if this exact student is already registered.
+     *
+     * @throws IllegalArgumentException if a different student already uses the (non-default) id
+     */
+    public boolean register(Student student) {
+        String id = student.getId();
+        if (Student.DEFAULT_ID.equals(id)) {
+            if (!defaultMembers.add(student)) {
+                return false;
+            }
+            defaultStudents.add(student);
+            if (defaultStudents.size() > 1) {
+                size++;
+                return true;
+            }
+        }
+        int hash = hash(id);
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keys[slot].equals(id)) {
+                if (values[slot] == student) {
+                    return false;
+                }
+                throw new IllegalArgumentException("Duplicate student id: " + id);
+            }
+        }
+        if ((occupied + 1) * 2 > keys.length) {
+            resize();
+        }
+        insert(id, hash, student);
+        occupied++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the student with this id (the first registered one for the default id), or null.
+     */
+    public Student get(String id) {
+        if (id == null) {
+            return null;
+        }
+        int hash = hash(id);
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keys[slot].equals(id)) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    public boolean contains(String id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Number of students registered under this id; more than one only for the default id.
+     */
+    public int count(String id) {
+        if (Student.DEFAULT_ID.equals(id)) {
+            return defaultStudents.size();
+        }
+        return contains(id) ? 1 : 0;
+    }
+
+    /**
+     * All students registered under this id, in registration order.
+     */
+    public List<Student> getAll(String id) {
+        if (Student.DEFAULT_ID.equals(id)) {
+            return new ArrayList<>(defaultStudents);
+        }
+        List<Student> result = new ArrayList<>();
+        Student student = get(id);
+        if (student != null) {
+            result.add(student);
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int getCapacity() {
+        return keys.length;
+    }
+
+    private void insert(String id, int hash, Student student) {
+        int slot = hash & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        values[slot] = student;
+        hashes[slot] = hash;
+    }
+
+    private void resize() {
+        String[] oldKeys = keys;
+        Student[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(oldKeys.length * 2);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != null) {
+                insert(oldKeys[slot], oldHashes[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Student[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    // Short ids like "0001", "0002" have clustered String hashes; mix the bits before masking
+    private static int hash(String id) {
+        int h = id.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,100 @@
+package com.pmu;
+
+import java.util.List;
+
+/**
+ * Immutable view of a student: id, name, courses and running totals at one point in time.
+ * {@link #withCourse(Course)} returns a new snapshot sharing the existing course storage,
+ * so building the next version costs O(log n) rather than a copy of every course.
+ * Safe to share between threads without locking.
+ */
+public final class StudentSnapshot {
+
+    private final String id;
+    private final String name;
+    private final CourseVector courses;
+    private final double totalPoints;
+    private final int totalCredits;
+
+    private StudentSnapshot(String id, String name, CourseVector courses, double totalPoints, int totalCredits) {
+        this.id = id;
+        this.name = name;
+        this.courses = courses;
+        this.totalPoints = totalPoints;
+        this.totalCredits = totalCredits;
+    }
+
+    /**
+     * Snapshot with no courses; id and name get the same defaults as Student.
+     */
+    public static StudentSnapshot of(String id, String name) {
+        return new StudentSnapshot(Student.normalizeId(id), Student.normalizeName(name), CourseVector.EMPTY, 0.0, 0);
+    }
+
+    /**
+     * Snapshot of the student's current state.
+     */
+    public static StudentSnapshot of(Student student) {
+        StudentSnapshot snapshot = of(student.getId(), student.getName());
+        for (Course course : student.getCourses()) {
+            snapshot = snapshot.withCourse(course);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns a snapshot with the course enrolled; a null course returns this snapshot.
+     */
+    public StudentSnapshot withCourse(Course course) {
+        if (course == null) {
+            return this;
+        }
+        return new StudentSnapshot(id, name, courses.append(course),
+                totalPoints + course.getGradePoint() * course.getCreditHours(),
+                totalCredits + course.getCreditHours());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Immutable list of the courses in enrollment order.
+     */
+    public List<Course> getCourses() {
+        return courses;
+    }
+
+    public int getTotalCredits() {
+        return totalCredits;
+    }
+
+    public double getTotalQualityPoints() {
+        return totalPoints;
+    }
+
+    /**
+     * Same result as Student.calculateGPA for the same courses.
+     */
+    public double calculateGPA() {
+        if (courses.isEmpty() || totalCredits == 0) {
+            return 0.0;
+        }
+        return Math.min(totalPoints / totalCredits, 4.0);
+    }
+
+    /**
+     * Mutable Student with the same id, name and courses.
+     */
+    public Student toStudent() {
+        Student student = new Student(id, name);
+        for (Course course : courses) {
+            student.enrollCourse(course);
+        }
+        return student;
+    }
+}
@@ -0,0 +1,308 @@
+package com.pmu;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar (struct-of-arrays) storage for large cohorts.
+ *
+ * Students are kept as parallel id/name arrays and enrollments as parallel primitive
+ * columns: student index, credit hours (byte), grade ordinal (byte) and an index into a
+ * shared course-name dictionary. Each student's enrollments are also chained in enrollment
+ * order so a Student view can be materialized without scanning the whole table.
+ *
+ * Enrollments are kept grouped by student: each student's rows form the contiguous range
+ * firstEnrollment..lastEnrollment, so computeAllGpas reduces every student over adjacent
+ * rows instead of scattering into per-student sums. Adding students one at a time (as
+ * {@link #from} does) keeps rows grouped; enrolling into an earlier student breaks the
+ * grouping, and the next computeAllGpas regroups the rows once.
+ *
+ * Not thread-safe.
+ */
+public class StudentStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Student columns
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] firstEnrollment = new int[INITIAL_CAPACITY];
+    private int[] lastEnrollment = new int[INITIAL_CAPACITY];
+    private int studentCount;
+
+    // Enrollment columns
+    private int[] enrollmentStudent = new int[INITIAL_CAPACITY];
+    private byte[] enrollmentCredits = new byte[INITIAL_CAPACITY];
+    private byte[] enrollmentGrade = new byte[INITIAL_CAPACITY];
+    // Grade point times credit hours; every grade point is a whole number, so at most 24
+    private byte[] enrollmentPoints = new byte[INITIAL_CAPACITY];
+    private int[] enrollmentCourse = new int[INITIAL_CAPACITY];
+    private int[] nextEnrollment = new int[INITIAL_CAPACITY];
+    private int enrollmentCount;
+    // Whether every student's rows are contiguous
+    private boolean grouped = true;
+
+    // Course-name dictionary
+    private final List<String> courseNames = new ArrayList<>();
+    private final Map<String, Integer> courseNameIndex = new HashMap<>();
+
+    /**
+     * Copies the given students (and their courses, in order) into a new store.
+     */
+    public static StudentStore from(Collection<Student> students) {
+        StudentStore store = new StudentStore();
+        for (Student student : students) {
+            store.addStudent(student);
+        }
+        return store;
+    }
+
+    /**
+     * Adds a student, applying the same defaults as the Student constructor.
+     * Returns the new student's index.
+     */
+    public int addStudent(String id, String name) {
+        if (studentCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            firstEnrollment = Arrays.copyOf(firstEnrollment, capacity);
+            lastEnrollment = Arrays.copyOf(lastEnrollment, capacity);
+        }
+        int index = studentCount++;
+        ids[index] = Student.normalizeId(id);
+        names[index] = Student.normalizeName(name);
+        firstEnrollment[index] = -1;
+        lastEnrollment[index] = -1;
+        return index;
+    }
+
+    /**
+     * Adds a copy of the student and all of its courses. Returns the new student's index.
+     */
+    public int addStudent(Student student) {
+        int index = addStudent(student.getId(), student.getName());
+        for (Course course : student.getCourses()) {
+            enroll(index, course);
+        }
+        return index;
+    }
+
+    /**
+     * Records an enrollment, applying the same defaults as the Course constructor.
+     */
+    public void enroll(int studentIndex, String courseName, int creditHours, String letterGrade) {
+        appendEnrollment(studentIndex, Course.normalizeCourseName(courseName),
+                Course.normalizeCreditHours(creditHours), Course.normalizeGrade(letterGrade));
+    }
+
+    /**
+     * Records an enrollment for an existing course; null is ignored, as in Student.enrollCourse.
+     */
+    public void enroll(int studentIndex, Course course) {
+        if (course != null) {
+            appendEnrollment(studentIndex, course.getCourseName(), course.getCreditHours(), course.getGrade());
+        }
+    }
+
+    private void appendEnrollment(int studentIndex, String courseName, int creditHours, Grade grade) {
+        checkStudentIndex(studentIndex);
+        if (enrollmentCount == enrollmentStudent.length) {
+            int capacity = enrollmentStudent.length * 2;
+            enrollmentStudent = Arrays.copyOf(enrollmentStudent, capacity);
+            enrollmentCredits = Arrays.copyOf(enrollmentCredits, capacity);
+            enrollmentGrade = Arrays.copyOf(enrollmentGrade, capacity);
+            enrollmentPoints = Arrays.copyOf(enrollmentPoints, capacity);
+            enrollmentCourse = Arrays.copyOf(enrollmentCourse, capacity);
+            nextEnrollment = Arrays.copyOf(nextEnrollment, capacity);
+        }
+        int row = enrollmentCount++;
+        enrollmentStudent[row] = studentIndex;
+        enrollmentCredits[row] = (byte) creditHours;
+        enrollmentGrade[row] = (byte) grade.ordinal();
+        enrollmentPoints[row] = (byte) (grade.getGradePoint() * creditHours);
+        enrollmentCourse[row] = courseNameId(courseName);
+        if (lastEnrollment[studentIndex] >= 0 && lastEnrollment[studentIndex] != row - 1) {
+            grouped = false;
+        }
+        link(studentIndex, row);
+    }
+
+    private void link(int studentIndex, int row) {
+        nextEnrollment[row] = -1;
+        if (lastEnrollment[studentIndex] < 0) {
+            firstEnrollment[studentIndex] = row;
+        } else {
+            nextEnrollment[lastEnrollment[studentIndex]] = row;
+        }
+        lastEnrollment[studentIndex] = row;
+    }
+
+    // Stable counting sort of the rows by student, keeping each student's enrollment order
+    private void regroup() {
+        int[] start = new int[studentCount + 1];
+        for (int row = 0; row < enrollmentCount; row++) {
+            start[enrollmentStudent[row] + 1]++;
+        }
+        for (int i = 0; i < studentCount; i++) {
+            start[i + 1] += start[i];
+        }
+
+        int capacity = enrollmentStudent.length;
+        int[] student = new int[capacity];
+        byte[] credits = new byte[capacity];
+        byte[] grades = new byte[capacity];
+        byte[] points = new byte[capacity];
+        int[] course = new int[capacity];
+        for (int row = 0; row < enrollmentCount; row++) {
+            int target = start[enrollmentStudent[row]]++;
+            student[target] = enrollmentStudent[row];
+            credits[target] = enrollmentCredits[row];
+            grades[target] = enrollmentGrade[row];
+            points[target] = enrollmentPoints[row];
+            course[target] = enrollmentCourse[row];
+        }
+        enrollmentStudent = student;
+        enrollmentCredits = credits;
+        enrollmentGrade = grades;
+        enrollmentPoints = points;
+        enrollmentCourse = course;
+
+        Arrays.fill(firstEnrollment, 0, studentCount, -1);
+        Arrays.fill(lastEnrollment, 0, studentCount, -1);
+        for (int row = 0; row < enrollmentCount; row++) {
+            link(enrollmentStudent[row], row);
+        }
+        grouped = true;
+    }
+
+    private int courseNameId(String courseName) {
+        Integer existing = courseNameIndex.get(courseName);
+        if (existing != null) {
+            return existing;
+        }
+        int id = courseNames.size();
+        courseNames.add(courseName);
+        courseNameIndex.put(courseName, id);
+        return id;
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public int getEnrollmentCount() {
+        return enrollmentCount;
+    }
+
+    /**
+     * Number of distinct course names in the dictionary.
+     */
+    public int getCourseNameCount() {
+        return courseNames.size();
+    }
+
+    public String getId(int studentIndex) {
+        checkStudentIndex(studentIndex);
+        return ids[studentIndex];
+    }
+
+    public String getName(int studentIndex) {
+        checkStudentIndex(studentIndex);
+        return names[studentIndex];
+    }
+
+    /**
+     * Computes every student's GPA into {@code out[0 .. getStudentCount())} with the same
+     * semantics as Student.calculateGPA: 0.0 without courses, capped at 4.0. Regroups the
+     * rows first if enrollments were added out of student order.
+     */
+    public void computeAllGpas(double[] out) {
+        if (out.length < studentCount) {
+            throw new IllegalArgumentException("Output array holds " + out.length
+                    + " GPAs but the store has " + studentCount + " students");
+        }
+        if (!grouped) {
+            regroup();
+        }
+
+        // One reduction per student over its contiguous rows. Points are whole numbers, so
+        // the int sums give exactly the doubles Student's running totals hold
+        for (int i = 0; i < studentCount; i++) {
+            int first = firstEnrollment[i];
+            if (first < 0) {
+                out[i] = 0.0;
+                continue;
+            }
+            int end = lastEnrollment[i] + 1;
+            int points = 0;
+            int credits = 0;
+            for (int row = first; row < end; row++) {
+                points += enrollmentPoints[row];
+                credits += enrollmentCredits[row];
+            }
+            out[i] = Math.min((double) points / credits, 4.0);
+        }
+    }
+
+    /**
+     * GPA of one student, following its enrollment chain.
+     */
+    public double computeGpa(int studentIndex) {
+        checkStudentIndex(studentIndex);
+        double totalPoints = 0.0;
+        int totalCredits = 0;
+        for (int row = firstEnrollment[studentIndex]; row >= 0; row = nextEnrollment[row]) {
+            int hours = enrollmentCredits[row];
+            totalPoints += Grade.gradePointOf(enrollmentGrade[row]) * hours;
+            totalCredits += hours;
+        }
+        if (totalCredits == 0) {
+            return 0.0;
+        }
+        return Math.min(totalPoints / totalCredits, 4.0);
+    }
+
+    /**
+     * Materializes a Student with this row's id, name and courses (shared through Course.of).
+     * The result is a detached copy: enrolling on it does not change the store.
+     */
+    public Student toStudent(int studentIndex) {
+        checkStudentIndex(studentIndex);
+        Student student = new Student(ids[studentIndex], names[studentIndex]);
+        for (int row = firstEnrollment[studentIndex]; row >= 0; row = nextEnrollment[row]) {
+            student.enrollCourse(Course.getInterner().intern(courseNames.get(enrollmentCourse[row]),
+                    enrollmentCredits[row], Grade.fromOrdinal(enrollmentGrade[row])));
+        }
+        return student;
+    }
+
+    /**
+     * Read-only list view that materializes Student objects on each get().
+     */
+    public List<Student> asStudents() {
+        return new AbstractList<>() {
+            @Override
+            public Student get(int index) {
+                return toStudent(index);
+            }
+
+            @Override
+            public int size() {
+                return studentCount;
+            }
+        };
+    }
+
+    private void checkStudentIndex(int studentIndex) {
+        if (studentIndex < 0 || studentIndex >= studentCount) {
+            throw new IndexOutOfBoundsException("Student index " + studentIndex
+                    + " out of range for " + studentCount + " students");
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.pmu;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LRU cache of derived per-student transcripts (courses, GPA, total credits), bounded by an
+ * estimated byte budget rather than an entry count.
+ *
+ * Entries are dropped by {@link #invalidate(Student)}, or automatically when the cache is
+ * attached to a {@link Cohort} and the student enrolls. Students only ever gain courses, so
+ * an entry whose course count no longer matches the student is also treated as stale; this
+ * catches enrollCourse calls made outside the cohort. Thread-safe.
+ */
+public class TranscriptCache implements EnrollmentListener {
+
+    /**
+     * Immutable summary of a student at the time it was built.
+     */
+    public record Transcript(String id, String name, List<Course> courses, int totalCredits, double gpa) {
+
+        public static Transcript of(Student student) {
+            return new Transcript(student.getId(), student.getName(), List.copyOf(student.getCourses()),
+                    student.getTotalCredits(), student.calculateGPA());
+        }
+    }
+
+    // Rough object layout costs used for the byte estimate (64-bit JVM, compressed oops):
+    // LinkedHashMap node + Entry + Transcript, and List.copyOf's list + its array header
+    private static final int ENTRY_OVERHEAD = 40 + 24 + 40;
+    private static final int COURSE_REFERENCE = 4;
+    private static final int LIST_OVERHEAD = 24 + 16;
+
+    private final LinkedHashMap<Student, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxBytes;
+    private long usedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * @param maxBytes estimated memory the cached transcripts may use
+     */
+    public TranscriptCache(long maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the student's transcript, building and caching it if missing or stale.
+     * A transcript larger than the whole budget is returned without being cached.
+     */
+    public synchronized Transcript get(Student student) {
+        Entry entry = entries.get(student);
+        if (entry != null && entry.transcript.courses().size() == student.getCourses().size()) {
+            hits++;
+            return entry.transcript;
+        }
+        misses++;
+        if (entry != null) {
+            remove(student);
+        }
+        Transcript transcript = Transcript.of(student);
+        long bytes = estimateBytes(transcript);
+        if (bytes <= maxBytes) {
+            entries.put(student, new Entry(transcript, bytes));
+            usedBytes += bytes;
+            evictToBudget();
+        }
+        return transcript;
+    }
+
+    /**
+     * Drops the student's cached transcript, if any.
+     */
+    public synchronized void invalidate(Student student) {
+        if (remove(student)) {
+            invalidations++;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations += entries.size();
+        entries.clear();
+        usedBytes = 0;
+    }
+
+    @Override
+    public void studentAdded(int ordinal, Student student) {
+        // Nothing is cached until the first get
+    }
+
+    @Override
+    public void courseEnrolled(int ordinal, Student student, Course course) {
+        invalidate(student);
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Hits divided by lookups, or 0.0 before the first lookup.
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    public synchronized long getInvalidationCount() {
+        return invalidations;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Estimated bytes used by the cached transcripts.
+     */
+    public synchronized long getEstimatedBytes() {
+        return usedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Estimated heap the cache itself holds for a transcript: its map entry, the Transcript
+     * and its course list. The id and name Strings belong to the Student and Course objects
+     * are usually interned, so both are counted only as the references the entry holds.
+     */
+    static long estimateBytes(Transcript transcript) {
+        return ENTRY_OVERHEAD + LIST_OVERHEAD + (long) COURSE_REFERENCE * transcript.courses().size();
+    }
+
+    private boolean remove(Student student) {
+        Entry removed = entries.remove(student);
+        if (removed == null) {
+            return false;
+        }
+        usedBytes -= removed.bytes;
+        return true;
+    }
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<Student, Entry>> eldest = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().getValue().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private record Entry(Transcript transcript, long bytes) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.pmu;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD classifier for score arrays built on the incubating Vector API.
+ *
+ * Only referenced from GradeCalculator once the jdk.incubator.vector module is known
+ * to be in the boot layer, so loading this class never fails on a plain JVM.
+ */
+final class VectorGradeEngine {
+
+    // The narrowest byte shape is 64 bits, so the int species needs at least 8 lanes
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED.length() >= 8
+            ? IntVector.SPECIES_PREFERRED
+            : IntVector.SPECIES_256;
+
+    // Same lane count as INTS, so each narrowed vector is one full, unmasked byte store
+    private static final VectorSpecies<Byte> BYTES =
+            VectorSpecies.of(byte.class, VectorShape.forBitSize(INTS.length() * Byte.SIZE));
+
+    private VectorGradeEngine() {
+    }
+
+    static void classify(int[] scores, int scoreOffset, byte[] out, int outOffset, int length) {
+        IntVector invalid = IntVector.broadcast(INTS, GradeCalculator.INVALID);
+        IntVector gradeA = IntVector.broadcast(INTS, GradeCalculator.GRADE_A);
+        IntVector gradeB = IntVector.broadcast(INTS, GradeCalculator.GRADE_B);
+        IntVector gradeC = IntVector.broadcast(INTS, GradeCalculator.GRADE_C);
+        IntVector gradeD = IntVector.broadcast(INTS, GradeCalculator.GRADE_D);
+        IntVector gradeF = IntVector.broadcast(INTS, GradeCalculator.GRADE_F);
+
+        int i = 0;
+        int upper = INTS.loopBound(length);
+        for (; i < upper; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, scores, scoreOffset + i);
+
+            // Same thresholds as calculateLetterGrade, each one overriding the lower grade
+            IntVector codes = gradeF
+                    .blend(gradeD, v.compare(VectorOperators.GE, 60))
+                    .blend(gradeC, v.compare(VectorOperators.GE, 70))
+                    .blend(gradeB, v.compare(VectorOperators.GE, 80))
+                    .blend(gradeA, v.compare(VectorOperators.GE, 90));
+            VectorMask<Integer> outOfRange = v.compare(VectorOperators.LT, 0)
+                    .or(v.compare(VectorOperators.GT, 100));
+            codes = codes.blend(invalid, outOfRange);
+
+            ByteVector bytes = (ByteVector) codes.convertShape(VectorOperators.I2B, BYTES, 0);
+            bytes.intoArray(out, outOffset + i);
+        }
+
+        // Tail that does not fill a whole vector goes through the scalar table
+        if (i < length) {
+            GradeCalculator.classifyRange(scores, scoreOffset + i, out, outOffset + i, length - i);
+        }
+    }
+}
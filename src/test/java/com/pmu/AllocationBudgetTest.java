@@ -0,0 +1,154 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test class for allocation budgets
+ * Fails when a designated hot path allocates more bytes per operation than the budget
+ * checked in at src/test/resources/allocation-budget.properties
+ */
+@DisplayName("Allocation Budget Tests")
+class AllocationBudgetTest {
+
+    private static final int WARMUP_OPERATIONS = 200_000;
+    private static final int MEASURED_OPERATIONS = 1_000_000;
+    private static final int MEASURED_ROUNDS = 3;
+
+    // Slack for one-off allocations during the run, such as a late JIT deoptimization
+    private static final long TOLERANCE_BYTES = 64 * 1024;
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static Properties budgets;
+
+    /**
+     * One operation of a hot path; returns a value so the work cannot be skipped.
+     */
+    private interface HotPath {
+        double run(int i);
+    }
+
+    private double sink;
+
+    @BeforeAll
+    static void setUpAll() throws IOException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Per-thread allocation counters are not available on this JVM");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation counting is not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budget.properties")) {
+            assertNotNull(in, "allocation-budget.properties is missing from the test resources");
+            budgets.load(in);
+        }
+    }
+
+    private static Map<String, HotPath> hotPaths() {
+        Student student = new Student("S001", "mohammed");
+        student.enrollCourse(new Course("Math", 3, "A"));
+        student.enrollCourse(new Course("Java", 4, "C"));
+        StudentSnapshot snapshot = StudentSnapshot.of(student);
+        Course course = new Course("Math", 3, "B");
+        String[] letters = {"A", "B", "C", "D", "F", "X"};
+        GradeCalculator calculator = new GradeCalculator();
+        int[] scores = new int[256];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = i - 50;
+        }
+        byte[] grades = new byte[scores.length];
+        StudentRegistry registry = new StudentRegistry();
+        String[] ids = new String[64];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = String.format("S%03d", i);
+            registry.register(new Student(ids[i], "student"));
+        }
+        GpaHistogram histogram = new GpaHistogram(400);
+
+        Map<String, HotPath> paths = new LinkedHashMap<>();
+        paths.put("student.calculateGPA", i -> student.calculateGPA());
+        paths.put("studentSnapshot.calculateGPA", i -> snapshot.calculateGPA());
+        paths.put("course.getGradePoint", i -> course.getGradePoint());
+        paths.put("grade.fromLetter", i -> Grade.fromLetter(letters[i % letters.length]) == null ? 0 : 1);
+        paths.put("gradeCalculator.calculateLetterGrade", i -> calculator.calculateLetterGrade(scores[i & 255]).length());
+        paths.put("gradeCalculator.calculateLetterGrades", i -> {
+            calculator.calculateLetterGrades(scores, grades);
+            return grades[i & 255];
+        });
+        paths.put("studentRegistry.get", i -> registry.get(ids[i & 63]) == null ? 0 : 1);
+        paths.put("gpaHistogram.add", i -> {
+            histogram.add((i & 255) / 64.0);
+            return histogram.getCount();
+        });
+        return paths;
+    }
+
+    /**
+     * Bytes allocated over all measured calls, net of the measuring loop itself. Takes the
+     * lowest of a few rounds, since a path may still be running in compiled code without
+     * escape analysis when the first round starts.
+     */
+    private long bytesAllocated(HotPath path) {
+        for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+            sink += path.run(i);
+        }
+        HotPath empty = i -> i;
+        for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+            sink += empty.run(i);
+        }
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long baseline = allocatedBy(empty);
+            long measured = allocatedBy(path);
+            lowest = Math.min(lowest, Math.max(0, measured - baseline));
+        }
+        return lowest;
+    }
+
+    private long allocatedBy(HotPath path) {
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_OPERATIONS; i++) {
+            sink += path.run(i);
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    @Test
+    @DisplayName("Budgets: Every hot path should stay within its checked-in allocation budget")
+    void testHotPathsWithinBudget() {
+        StringBuilder failures = new StringBuilder();
+        for (Map.Entry<String, HotPath> entry : hotPaths().entrySet()) {
+            String budget = budgets.getProperty(entry.getKey());
+            assertNotNull(budget, "No allocation budget for " + entry.getKey());
+            // Compare totals so a fraction of a byte per call is not rounded away
+            long bytes = bytesAllocated(entry.getValue());
+            long limit = Long.parseLong(budget.trim()) * MEASURED_OPERATIONS + TOLERANCE_BYTES;
+            if (bytes > limit) {
+                long perOperation = (bytes + MEASURED_OPERATIONS - 1) / MEASURED_OPERATIONS;
+                failures.append(entry.getKey()).append(": ").append(bytes).append(" bytes over ")
+                        .append(MEASURED_OPERATIONS).append(" calls (about ").append(perOperation)
+                        .append(" bytes/op), budget ").append(budget.trim()).append('\n');
+            }
+        }
+        assertEquals("", failures.toString(), "Allocation budgets exceeded");
+    }
+
+    @Test
+    @DisplayName("Budgets: Every budget entry should name a measured hot path")
+    void testNoStaleBudgets() {
+        assertEquals(hotPaths().keySet(), budgets.stringPropertyNames());
+    }
+}
@@ -0,0 +1,156 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CohortGenerator
+ * Tests determinism, value distributions and CSV / snapshot output
+ */
+@DisplayName("CohortGenerator Tests")
+class CohortGeneratorTest {
+
+    private static void assertSameStudent(Student expected, Student actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getCourses().size(), actual.getCourses().size());
+        for (int i = 0; i < expected.getCourses().size(); i++) {
+            Course e = expected.getCourses().get(i);
+            Course a = actual.getCourses().get(i);
+            assertEquals(e.getCourseName(), a.getCourseName());
+            assertEquals(e.getCreditHours(), a.getCreditHours());
+            assertEquals(e.getGrade(), a.getGrade());
+        }
+    }
+
+    @Test
+    @DisplayName("Determinism: Same seed should give the same cohort, in any order")
+    void testDeterminism() {
+        CohortGenerator first = new CohortGenerator(42);
+        CohortGenerator second = new CohortGenerator(42);
+        List<Student> sequential = first.stream(500).collect(Collectors.toList());
+        List<Student> parallel = second.stream(500).parallel().collect(Collectors.toList());
+
+        for (int i = 0; i < sequential.size(); i++) {
+            assertSameStudent(sequential.get(i), parallel.get(i));
+        }
+        assertSameStudent(sequential.get(321), second.student(321));
+        assertEquals("S000000321", sequential.get(321).getId());
+    }
+
+    @Test
+    @DisplayName("Seeds: Different seeds should give different cohorts")
+    void testDifferentSeeds() {
+        Student a = new CohortGenerator(1).student(0);
+        Student b = new CohortGenerator(2).student(0);
+        assertNotEquals(a.getCourses().stream().map(Course::getCourseName).toList(),
+                b.getCourses().stream().map(Course::getCourseName).toList());
+    }
+
+    @Test
+    @DisplayName("Distributions: Credits, grades and course counts should be realistic")
+    void testDistributions() {
+        CohortGenerator generator = new CohortGenerator(7);
+        int[] creditCounts = new int[7];
+        int[] gradeCounts = new int[5];
+        long enrollments = 0;
+        int students = 10_000;
+        for (int i = 0; i < students; i++) {
+            Student student = generator.student(i);
+            assertFalse(student.getCourses().isEmpty());
+            for (Course course : student.getCourses()) {
+                creditCounts[course.getCreditHours()]++;
+                gradeCounts[course.getGrade().ordinal()]++;
+                enrollments++;
+            }
+        }
+
+        double mean = (double) enrollments / students;
+        assertEquals(CohortGenerator.DEFAULT_MEAN_COURSES, mean, 0.5);
+        // 3-credit courses dominate, but every credit value 1-6 appears
+        for (int credits = 1; credits <= 6; credits++) {
+            assertTrue(creditCounts[credits] > 0, "credits " + credits);
+        }
+        assertTrue(creditCounts[3] > creditCounts[1] && creditCounts[3] > creditCounts[6]);
+        // Every grade appears and neither extreme dominates
+        for (int count : gradeCounts) {
+            assertTrue(count > enrollments / 50);
+            assertTrue(count < enrollments / 2);
+        }
+        assertEquals(10_000, generator.studentsForEnrollments(100_000));
+    }
+
+    @Test
+    @DisplayName("writeCsv: Generated CSV should load back into the same students")
+    void testCsvRoundTrip() throws Exception {
+        CohortGenerator generator = new CohortGenerator(3);
+        StringWriter csv = new StringWriter();
+        long rows = generator.writeCsv(csv, 200);
+
+        Map<String, Student> loaded = new LinkedHashMap<>();
+        RosterCsvLoader.LoadStats stats = new RosterCsvLoader().loadInto(new StringReader(csv.toString()), loaded);
+        assertEquals(rows, stats.rows());
+        assertEquals(200, loaded.size());
+        List<Student> students = new ArrayList<>(loaded.values());
+        for (int i = 0; i < students.size(); i++) {
+            assertSameStudent(generator.student(i), students.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("writeSnapshot: Generated snapshot should read back into the same students")
+    void testSnapshotRoundTrip(@TempDir Path dir) throws Exception {
+        CohortGenerator generator = new CohortGenerator(5);
+        Path file = dir.resolve("cohort.snap");
+        generator.writeSnapshot(file, 300);
+
+        List<Student> students = RosterSnapshot.read(file);
+        assertEquals(300, students.size());
+        for (int i = 0; i < students.size(); i++) {
+            assertSameStudent(generator.student(i), students.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Scaling: GPA and ranking should agree across stores at 10^5 enrollments")
+    void testScalingWorkload() {
+        CohortGenerator generator = new CohortGenerator(11);
+        int count = (int) generator.studentsForEnrollments(100_000);
+        List<Student> students = generator.stream(count).collect(Collectors.toList());
+
+        double[] gpas = new GpaEngine().computeAll(students);
+        double[] offHeap = new double[count];
+        try (OffHeapEnrollmentStore store = generator.toOffHeapStore(count)) {
+            store.computeAllGpas(offHeap);
+        }
+        assertArrayEquals(gpas, offHeap, 1e-9);
+
+        Cohort cohort = new Cohort();
+        GpaLeaderboard leaderboard = new GpaLeaderboard();
+        cohort.addListener(leaderboard);
+        students.forEach(cohort::add);
+        int best = leaderboard.atRank(1);
+        for (double gpa : gpas) {
+            assertTrue(gpa <= gpas[best]);
+        }
+    }
+
+    @Test
+    @DisplayName("Constructor: Invalid settings should throw")
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new CohortGenerator(1, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CohortGenerator(1, 10, 0.5));
+    }
+}
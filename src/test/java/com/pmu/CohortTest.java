@@ -0,0 +1,91 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Cohort
+ * Tests ordinal assignment and listener notifications
+ */
+@DisplayName("Cohort Tests")
+class CohortTest {
+
+    private Cohort cohort;
+    private List<String> events;
+
+    @BeforeEach
+    void setUp() {
+        cohort = new Cohort();
+        events = new ArrayList<>();
+    }
+
+    private EnrollmentListener recorder() {
+        return new EnrollmentListener() {
+            @Override
+            public void studentAdded(int ordinal, Student student) {
+                events.add("added " + ordinal + " " + student.getId());
+            }
+
+            @Override
+            public void courseEnrolled(int ordinal, Student student, Course course) {
+                events.add("enrolled " + ordinal + " " + course.getCourseName());
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("add: Ordinals should be assigned in order")
+    void testOrdinals() {
+        Student first = new Student("S001", "mohammed");
+        Student second = new Student("S002", "ahmad");
+        assertEquals(0, cohort.add(first));
+        assertEquals(1, cohort.add(second));
+        assertSame(second, cohort.get(1));
+        assertEquals(2, cohort.size());
+        assertEquals(List.of(first, second), cohort.getStudents());
+        assertThrows(IllegalArgumentException.class, () -> cohort.add(null));
+    }
+
+    @Test
+    @DisplayName("enroll: Course should be added to the student and reported")
+    void testEnrollNotifies() {
+        cohort.addListener(recorder());
+        int ordinal = cohort.add(new Student("S001", "mohammed"));
+        cohort.enroll(ordinal, new Course("Math", 3, "A"));
+        cohort.enroll(ordinal, null);
+
+        assertEquals(1, cohort.get(ordinal).getCourses().size());
+        assertEquals(List.of("added 0 S001", "enrolled 0 Math"), events);
+    }
+
+    @Test
+    @DisplayName("addListener: Existing students should be replayed")
+    void testListenerReplay() {
+        cohort.add(new Student("S001", "mohammed"));
+        cohort.add(new Student("S002", "ahmad"));
+        cohort.addListener(recorder());
+        assertEquals(List.of("added 0 S001", "added 1 S002"), events);
+    }
+
+    @Test
+    @DisplayName("removeListener: Removed listener should not be notified")
+    void testRemoveListener() {
+        EnrollmentListener listener = recorder();
+        cohort.addListener(listener);
+        cohort.removeListener(listener);
+        cohort.add(new Student("S001", "mohammed"));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("enroll: Unknown ordinal should throw")
+    void testUnknownOrdinal() {
+        assertThrows(IndexOutOfBoundsException.class, () -> cohort.enroll(0, new Course("Math", 3, "A")));
+    }
+}
@@ -0,0 +1,126 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ConcurrentEnrollmentService
+ * Tests concurrent enrollment on many students and consistent GPA reads
+ */
+@DisplayName("ConcurrentEnrollmentService Tests")
+class ConcurrentEnrollmentServiceTest {
+
+    private ConcurrentEnrollmentService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ConcurrentEnrollmentService(8);
+    }
+
+    @Test
+    @DisplayName("register: Second student with a taken id should be rejected")
+    void testRegister() {
+        assertTrue(service.register(new Student("S001", "mohammed")));
+        assertFalse(service.register(new Student("S001", "other")));
+        assertEquals("mohammed", service.get("S001").getName());
+        assertEquals(1, service.size());
+    }
+
+    @Test
+    @DisplayName("enroll: Unknown student id should throw")
+    void testUnknownStudent() {
+        assertThrows(IllegalArgumentException.class, () -> service.enroll("S404", new Course("Math", 3, "A")));
+        assertThrows(IllegalArgumentException.class, () -> service.calculateGPA(null));
+    }
+
+    @Test
+    @DisplayName("Constructor: Stripe count should round up to a power of two")
+    void testStripeCount() {
+        assertEquals(8, new ConcurrentEnrollmentService(5).getStripeCount());
+        assertEquals(1, new ConcurrentEnrollmentService(1).getStripeCount());
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentEnrollmentService(0));
+    }
+
+    @Test
+    @DisplayName("Concurrency: Parallel enrollments should all be applied")
+    void testConcurrentEnrollments() throws Exception {
+        int studentCount = 50;
+        int perThread = 200;
+        for (int i = 0; i < studentCount; i++) {
+            service.register(new Student("S" + i, "student" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        service.enroll("S" + ((thread * perThread + i) % studentCount), new Course("Math", 3, "A"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int total = 0;
+        for (int i = 0; i < studentCount; i++) {
+            total += service.getCourses("S" + i).size();
+        }
+        assertEquals(8 * perThread, total);
+    }
+
+    @Test
+    @DisplayName("Concurrency: GPA reads during writes should only see whole enrollments")
+    void testConsistentReads() throws Exception {
+        service.register(new Student("S001", "mohammed"));
+        // Alternating 3-credit A and F courses; a consistent view has credits equal to
+        // three times the course count and a GPA equal to points / credits
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicBoolean inconsistent = new AtomicBoolean();
+
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                double[] view = service.read("S001", s -> new double[]{
+                        s.calculateGPA(), s.getTotalQualityPoints(), s.getTotalCredits(), s.getCourses().size()});
+                double expected = view[2] == 0 ? 0.0 : view[1] / view[2];
+                if (view[0] != expected || view[2] != view[3] * 3) {
+                    inconsistent.set(true);
+                }
+                double gpa = service.calculateGPA("S001");
+                if (Double.isNaN(gpa) || gpa < 0.0 || gpa > 4.0) {
+                    inconsistent.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 20_000; i++) {
+            service.enroll("S001", new Course("Course" + i, 3, i % 2 == 0 ? "A" : "F"));
+        }
+        done.set(true);
+        reader.join();
+
+        assertFalse(inconsistent.get());
+        assertEquals(2.0, service.calculateGPA("S001"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CourseIndex
+ * Tests posting lists, grade distributions and incremental maintenance
+ */
+@DisplayName("CourseIndex Tests")
+class CourseIndexTest {
+
+    private Cohort cohort;
+    private CourseIndex index;
+
+    @BeforeEach
+    void setUp() {
+        cohort = new Cohort();
+        index = new CourseIndex();
+        cohort.addListener(index);
+    }
+
+    @Test
+    @DisplayName("getStudents: Posting list should follow enrollments")
+    void testPostings() {
+        int first = cohort.add(new Student("S001", "mohammed"));
+        int second = cohort.add(new Student("S002", "ahmad"));
+        cohort.enroll(second, new Course("Math", 3, "B"));
+        cohort.enroll(first, new Course("Math", 3, "A"));
+        cohort.enroll(first, new Course("Java", 4, "C"));
+
+        assertArrayEquals(new int[]{second, first}, index.getStudents("Math"));
+        assertArrayEquals(new int[]{first}, index.getStudents("Java"));
+        assertArrayEquals(new int[0], index.getStudents("History"));
+        assertEquals(2, index.getEnrollmentCount("Math"));
+        assertEquals(Set.of("Math", "Java"), index.getCourseNames());
+    }
+
+    @Test
+    @DisplayName("Grade stats: Distribution and mean should match the enrollments")
+    void testGradeStats() {
+        String[] grades = {"A", "A", "B", "F", "C"};
+        for (int i = 0; i < grades.length; i++) {
+            int ordinal = cohort.add(new Student("S" + i, "student" + i));
+            cohort.enroll(ordinal, new Course("Math", 3, grades[i]));
+        }
+
+        assertArrayEquals(new int[]{2, 1, 1, 0, 1}, index.getGradeDistribution("Math"));
+        assertEquals((4.0 + 4.0 + 3.0 + 0.0 + 2.0) / 5, index.getMeanGradePoint("Math"), 0.0001);
+        assertArrayEquals(new int[5], index.getGradeDistribution("History"));
+        assertEquals(0.0, index.getMeanGradePoint("History"));
+    }
+
+    @Test
+    @DisplayName("forEachEnrollment: Should report each student's grade")
+    void testForEachEnrollment() {
+        int first = cohort.add(new Student("S001", "mohammed"));
+        int second = cohort.add(new Student("S002", "ahmad"));
+        cohort.enroll(first, new Course("Math", 3, "A"));
+        cohort.enroll(second, new Course("Math", 3, "D"));
+
+        List<String> seen = new ArrayList<>();
+        index.forEachEnrollment("Math", (grade, ordinal) -> seen.add(cohort.get(ordinal).getId() + ":" + grade));
+        assertEquals(List.of("S001:A", "S002:D"), seen);
+    }
+
+    @Test
+    @DisplayName("Attach: Courses enrolled before attaching should be indexed")
+    void testExistingCourses() {
+        Student student = new Student("S001", "mohammed");
+        student.enrollCourse(new Course("Math", 3, "A"));
+        Cohort existing = new Cohort(List.of(student));
+
+        CourseIndex late = new CourseIndex();
+        existing.addListener(late);
+        assertArrayEquals(new int[]{0}, late.getStudents("Math"));
+    }
+
+    @Test
+    @DisplayName("Course names: Null and empty names should share the default name")
+    void testDefaultCourseName() {
+        int ordinal = cohort.add(new Student("S001", "mohammed"));
+        cohort.enroll(ordinal, new Course(null, 3, "A"));
+        assertEquals(1, index.getEnrollmentCount(null));
+        assertEquals(1, index.getEnrollmentCount(""));
+        assertEquals(1, index.getEnrollmentCount("Unknown"));
+    }
+
+    @Test
+    @DisplayName("getStudents: Posting list should grow past its initial capacity")
+    void testGrowth() {
+        for (int i = 0; i < 1000; i++) {
+            cohort.enroll(cohort.add(new Student("S" + i, "student")), new Course("Math", 3, "A"));
+        }
+        int[] students = index.getStudents("Math");
+        assertEquals(1000, students.length);
+        assertEquals(999, students[999]);
+        assertEquals(4.0, index.getMeanGradePoint("Math"));
+    }
+}
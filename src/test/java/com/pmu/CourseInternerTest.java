@@ -0,0 +1,84 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CourseInterner
+ * Tests instance sharing, hit/miss accounting and the size bound
+ */
+@DisplayName("CourseInterner Tests")
+class CourseInternerTest {
+
+    private CourseInterner interner;
+
+    @BeforeEach
+    void setUp() {
+        interner = new CourseInterner(2);
+    }
+
+    @Test
+    @DisplayName("intern: First lookup is a miss, repeated lookups are hits")
+    void testHitAndMissCounts() {
+        Course first = interner.intern("Math", 3, "A");
+        Course second = interner.intern("Math", 3, "A");
+        Course third = interner.intern("Math", 3, "A");
+
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, interner.getMissCount());
+        assertEquals(2, interner.getHitCount());
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    @DisplayName("intern: Different grade or credits should be different instances")
+    void testDistinctKeys() {
+        Course a = interner.intern("Math", 3, "A");
+        Course b = interner.intern("Math", 3, "B");
+        assertNotSame(a, b);
+        assertEquals(2, interner.getMissCount());
+    }
+
+    @Test
+    @DisplayName("intern: Values that default to the same course share one entry")
+    void testDefaultedValuesShareEntry() {
+        Course invalid = interner.intern("", 9, "InvalidGrade");
+        Course explicit = interner.intern("Unknown", 3, "F");
+        assertSame(invalid, explicit);
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    @DisplayName("intern: Full cache should return uncached instances")
+    void testBoundedSize() {
+        interner.intern("Math", 3, "A");
+        interner.intern("English", 3, "A");
+        Course overflow = interner.intern("Science", 3, "A");
+
+        assertEquals(2, interner.size());
+        assertNotSame(overflow, interner.intern("Science", 3, "A"));
+        assertEquals("Science", overflow.getCourseName());
+    }
+
+    @Test
+    @DisplayName("clear: Should empty the cache and reset counters")
+    void testClear() {
+        interner.intern("Math", 3, "A");
+        interner.intern("Math", 3, "A");
+        interner.clear();
+
+        assertEquals(0, interner.size());
+        assertEquals(0, interner.getHitCount());
+        assertEquals(0, interner.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Constructor: Negative size should throw")
+    void testNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CourseInterner(-1));
+    }
+}
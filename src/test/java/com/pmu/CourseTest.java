@@ -181,4 +181,44 @@ class CourseTest {
         Course testCourse = new Course("Java", 3, "Invalid");
         assertEquals(0.0, testCourse.getGradePoint());
     }
-}
\ No newline at end of file
+
+    // ============ getGrade() Tests ============
+
+    @Test
+    @DisplayName("getGrade: Should return the enum matching the letter grade")
+    void testGetGrade() {
+        Course testCourse = new Course("Java", 3, "C");
+        assertEquals(Grade.C, testCourse.getGrade());
+        assertEquals(testCourse.getLetterGrade(), testCourse.getGrade().getLetter());
+    }
+
+    @Test
+    @DisplayName("getGrade: Lowercase grade should default to F")
+    void testGetGradeLowercase() {
+        Course testCourse = new Course("Java", 3, "a");
+        assertEquals(Grade.F, testCourse.getGrade());
+    }
+
+    // ============ of() Tests ============
+
+    @Test
+    @DisplayName("of: Identical values should return the same shared instance")
+    void testOfReturnsSharedInstance() {
+        Course first = Course.of("Operating Systems", 4, "B");
+        Course second = Course.of(new String("Operating Systems"), 4, "B");
+        assertSame(first, second);
+        assertEquals("Operating Systems", second.getCourseName());
+        assertEquals(4, second.getCreditHours());
+        assertEquals("B", second.getLetterGrade());
+    }
+
+    @Test
+    @DisplayName("of: Should apply the same defaults as the constructor")
+    void testOfAppliesDefaults() {
+        Course defaulted = Course.of(null, 0, "Z");
+        assertEquals("Unknown", defaulted.getCourseName());
+        assertEquals(3, defaulted.getCreditHours());
+        assertEquals("F", defaulted.getLetterGrade());
+        assertSame(defaulted, Course.of("Unknown", 3, "F"));
+    }
+}
@@ -0,0 +1,328 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for EnrollmentJournal
+ * Tests write-ahead replay, torn tails, group commit batching and checkpoints
+ */
+@DisplayName("EnrollmentJournal Tests")
+class EnrollmentJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("recover: Journaled enrollments should be replayed without a snapshot")
+    void testRecoverFromJournalOnly() throws IOException {
+        Path journalFile = tempDir.resolve("enrollments.wal");
+        Student student = new Student("S001", "mohammed");
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            journal.enroll(student, new Course("Math", 3, "A"));
+            journal.enroll(student, new Course("English", 4, "B"));
+            journal.enroll(student, null);
+            assertEquals(2, journal.getAppendCount());
+            assertEquals(2, journal.getSyncCount());
+        }
+
+        List<Student> recovered = EnrollmentJournal.recover(tempDir.resolve("missing.snap"), journalFile);
+        assertEquals(1, recovered.size());
+        Student copy = recovered.get(0);
+        assertEquals("S001", copy.getId());
+        assertEquals("mohammed", copy.getName());
+        assertEquals(2, copy.getCourses().size());
+        assertEquals(student.calculateGPA(), copy.calculateGPA());
+    }
+
+    @Test
+    @DisplayName("recover: Journal should be replayed on top of the checkpoint snapshot")
+    void testCheckpointThenReplay() throws IOException {
+        Path journalFile = tempDir.resolve("enrollments.wal");
+        Path snapshot = tempDir.resolve("roster.snap");
+        Student first = new Student("S001", "mohammed");
+        Student second = new Student("S002", "ahmad");
+
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile, 8, 0)) {
+            journal.enroll(first, new Course("Math", 3, "A"));
+            journal.checkpoint(snapshot, List.of(first));
+            assertEquals(EnrollmentJournal.HEADER_SIZE, Files.size(journalFile));
+
+            journal.enroll(first, new Course("Science", 2, "F"));
+            journal.enroll(second, new Course("English", 4, "B"));
+        }
+
+        List<Student> recovered = EnrollmentJournal.recover(snapshot, journalFile);
+        assertEquals(2, recovered.size());
+        assertEquals(2, recovered.get(0).getCourses().size());
+        assertEquals(first.calculateGPA(), recovered.get(0).calculateGPA());
+        assertEquals(second.calculateGPA(), recovered.get(1).calculateGPA());
+    }
+
+    @Test
+    @DisplayName("recover: A crash after the snapshot move but before truncation should not replay twice")
+    void testCrashBetweenSnapshotAndTruncate() throws IOException {
+        Path journalFile = tempDir.resolve("enrollments.wal");
+        Path snapshot = tempDir.resolve("roster.snap");
+        Student student = new Student("S001", "mohammed");
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            journal.enroll(student, new Course("Math", 3, "A"));
+            journal.enroll(student, new Course("English", 4, "B"));
+
+            // The first half of checkpoint: snapshot moved into place, journal left untouched
+            Path temp = tempDir.resolve("roster.snap.tmp");
+            RosterSnapshot.write(temp, List.of(student), journal.getNextSequence() - 1);
+            Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        List<Student> recovered = EnrollmentJournal.recover(snapshot, journalFile);
+        assertEquals(1, recovered.size());
+        assertEquals(2, recovered.get(0).getCourses().size());
+
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            assertEquals(2, journal.getNextSequence());
+            journal.enroll(recovered.get(0), new Course("Science", 2, "C"));
+        }
+        Student copy = EnrollmentJournal.recover(snapshot, journalFile).get(0);
+        assertEquals(3, copy.getCourses().size());
+        assertEquals(recovered.get(0).calculateGPA(), copy.calculateGPA());
+    }
+
+    @Test
+    @DisplayName("Sequence: Numbers should keep growing across checkpoints and reopens")
+    void testSequenceMonotonic() throws IOException {
+        Path journalFile = tempDir.resolve("enrollments.wal");
+        Path snapshot = tempDir.resolve("roster.snap");
+        Student student = new Student("S001", "mohammed");
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            assertEquals(0, journal.getNextSequence());
+            journal.enroll(student, new Course("Math", 3, "A"));
+            journal.enroll(student, new Course("English", 4, "B"));
+            journal.checkpoint(snapshot, List.of(student));
+            assertEquals(2, journal.getNextSequence());
+        }
+        assertEquals(1, RosterSnapshot.readJournalSequence(snapshot));
+
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            assertEquals(2, journal.getNextSequence());
+            journal.enroll(student, new Course("Science", 2, "C"));
+        }
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            assertEquals(3, journal.getNextSequence());
+        }
+        assertEquals(3, EnrollmentJournal.recover(snapshot, journalFile).get(0).getCourses().size());
+    }
+
+    @Test
+    @DisplayName("Torn tail: A partial last record is ignored on replay and truncated on reopen")
+    void testTornTail() throws IOException {
+        Path journalFile = tempDir.resolve("enrollments.wal");
+        Student student = new Student("S001", "mohammed");
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            journal.enroll(student, new Course("Math", 3, "A"));
+            journal.enroll(student, new Course("English", 4, "B"));
+        }
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            channel.truncate(EnrollmentJournal.HEADER_SIZE + EnrollmentJournal.RECORD_SIZE + 100);
+        }
+
+        assertEquals(1, EnrollmentJournal.recover(null, journalFile).get(0).getCourses().size());
+
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            assertEquals(EnrollmentJournal.HEADER_SIZE + EnrollmentJournal.RECORD_SIZE, Files.size(journalFile));
+            journal.append(student, new Course("Science", 2, "C"));
+        }
+        assertEquals(2, EnrollmentJournal.recover(null, journalFile).get(0).getCourses().size());
+    }
+
+    @Test
+    @DisplayName("Corruption: A bad record followed by intact ones should fail instead of truncating")
+    void testCorruptRecordMidFile() throws IOException {
+        Path journalFile = tempDir.resolve("enrollments.wal");
+        Student student = new Student("S001", "mohammed");
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            for (int i = 0; i < 5; i++) {
+                journal.enroll(student, new Course("Course" + i, 3, "A"));
+            }
+        }
+        long size = Files.size(journalFile);
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer flipped = ByteBuffer.allocate(1);
+            long offset = EnrollmentJournal.HEADER_SIZE + EnrollmentJournal.RECORD_SIZE + 40;
+            channel.read(flipped, offset);
+            flipped.put(0, (byte) (flipped.get(0) ^ 0x5A)).rewind();
+            channel.write(flipped, offset);
+        }
+
+        assertThrows(IOException.class, () -> EnrollmentJournal.replay(journalFile, new HashMap<>()));
+        assertThrows(IOException.class, () -> EnrollmentJournal.recover(null, journalFile));
+        assertThrows(IOException.class, () -> new EnrollmentJournal(journalFile));
+        assertEquals(size, Files.size(journalFile));
+    }
+
+    @Test
+    @DisplayName("Group commit: fsync should run once per full group")
+    void testGroupCommitByCount() throws IOException {
+        Student student = new Student("S001", "mohammed");
+        Course course = new Course("Math", 3, "A");
+        try (EnrollmentJournal journal = new EnrollmentJournal(tempDir.resolve("group.wal"), 4, 0)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(student, course);
+            }
+            assertEquals(10, journal.getAppendCount());
+            assertEquals(2, journal.getSyncCount());
+
+            journal.sync();
+            assertEquals(3, journal.getSyncCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Group commit: Pending records should be synced once the time window passes")
+    void testGroupCommitByTime() throws Exception {
+        try (EnrollmentJournal journal = new EnrollmentJournal(tempDir.resolve("window.wal"), 1000, 50)) {
+            long start = System.nanoTime();
+            journal.append(new Student("S001", "mohammed"), new Course("Math", 3, "A"));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (journal.getSyncCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(1, journal.getSyncCount());
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    @Test
+    @DisplayName("awaitDurable: Waits for one fsync covering every record written so far")
+    void testAwaitDurable() throws IOException {
+        Student student = new Student("S001", "mohammed");
+        try (EnrollmentJournal journal = new EnrollmentJournal(tempDir.resolve("await.wal"), 100, 0)) {
+            long first = journal.append(student, new Course("Math", 3, "A"));
+            long second = journal.append(student, new Course("English", 4, "B"));
+            assertEquals(first + 1, second);
+            assertEquals(0, journal.getSyncCount());
+
+            journal.awaitDurable(first);
+            assertEquals(1, journal.getSyncCount());
+            journal.awaitDurable(second);
+            assertEquals(1, journal.getSyncCount());
+            assertThrows(IllegalArgumentException.class, () -> journal.awaitDurable(second + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Group commit: Concurrent durable appends should all be journaled with at most one fsync each")
+    void testConcurrentDurableAppends() throws Exception {
+        Path journalFile = tempDir.resolve("concurrent.wal");
+        int threads = 8;
+        int perThread = 100;
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Student student = new Student("S" + t, "student");
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        journal.enroll(student, new Course("Course" + i, 3, "A"));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pool.shutdown();
+            assertEquals(threads * perThread, journal.getAppendCount());
+            assertTrue(journal.getSyncCount() <= threads * perThread);
+        }
+
+        List<Student> recovered = EnrollmentJournal.recover(null, journalFile);
+        assertEquals(threads, recovered.size());
+        for (Student student : recovered) {
+            assertEquals(perThread, student.getCourses().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Latency: Percentiles should be ordered and zero before any append")
+    void testLatencyPercentiles() throws IOException {
+        try (EnrollmentJournal journal = new EnrollmentJournal(tempDir.resolve("latency.wal"), 16, 0)) {
+            assertEquals(0, journal.getAppendLatencyPercentile(99));
+            for (int i = 0; i < 100; i++) {
+                journal.append(new Student("S" + i, "student"), new Course("Math", 3, "A"));
+            }
+            long p50 = journal.getAppendLatencyPercentile(50);
+            long p99 = journal.getAppendLatencyPercentile(99);
+            assertTrue(p99 >= p50);
+            assertThrows(IllegalArgumentException.class, () -> journal.getAppendLatencyPercentile(101));
+        }
+    }
+
+    @Test
+    @DisplayName("append: Long ids and names should span several blocks and replay intact")
+    void testLongFields() throws IOException {
+        Path journalFile = tempDir.resolve("long.wal");
+        Student student = new Student("S".repeat(300), "محمد".repeat(100));
+        Course course = new Course("Course ".repeat(200), 4, "B");
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            journal.enroll(student, course);
+            journal.enroll(student, new Course("Math", 3, "A"));
+            assertEquals(2, journal.getAppendCount());
+        }
+        assertTrue(Files.size(journalFile) > EnrollmentJournal.HEADER_SIZE + 2 * EnrollmentJournal.RECORD_SIZE);
+        assertEquals(0, Files.size(journalFile) % EnrollmentJournal.RECORD_SIZE);
+
+        Student copy = EnrollmentJournal.recover(null, journalFile).get(0);
+        assertEquals(student.getId(), copy.getId());
+        assertEquals(student.getName(), copy.getName());
+        assertEquals(course.getCourseName(), copy.getCourses().get(0).getCourseName());
+        assertEquals(student.calculateGPA(), copy.calculateGPA());
+    }
+
+    @Test
+    @DisplayName("Torn tail: A multi-block record cut short is dropped on reopen")
+    void testTornLongRecord() throws IOException {
+        Path journalFile = tempDir.resolve("torn-long.wal");
+        Student student = new Student("S001", "mohammed");
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            journal.enroll(student, new Course("Math", 3, "A"));
+            journal.enroll(student, new Course("Course ".repeat(200), 4, "B"));
+        }
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(journalFile) - 100);
+        }
+
+        assertEquals(1, EnrollmentJournal.recover(null, journalFile).get(0).getCourses().size());
+        try (EnrollmentJournal journal = new EnrollmentJournal(journalFile)) {
+            assertEquals(EnrollmentJournal.HEADER_SIZE + EnrollmentJournal.RECORD_SIZE, Files.size(journalFile));
+            assertEquals(1, journal.getNextSequence());
+        }
+    }
+
+    @Test
+    @DisplayName("append: Closed journal should reject appends")
+    void testAppendAfterClose() throws IOException {
+        EnrollmentJournal journal = new EnrollmentJournal(tempDir.resolve("closed.wal"));
+        journal.close();
+        assertThrows(IllegalStateException.class,
+                () -> journal.append(new Student("S001", "mohammed"), new Course("Math", 3, "A")));
+    }
+}
@@ -0,0 +1,97 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for FlightRecording and the com.pmu JFR events
+ * Tests the shipped settings file and the fields carried by each event
+ */
+@DisplayName("FlightRecording Tests")
+class FlightRecordingTest {
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+
+    @Test
+    @DisplayName("configuration: Shipped settings should enable every com.pmu event")
+    void testConfiguration() throws Exception {
+        Configuration configuration = FlightRecording.configuration();
+        assertEquals("PMU", configuration.getLabel());
+        assertEquals("true", configuration.getSettings().get("com.pmu.Enrollment#enabled"));
+        assertEquals("true", configuration.getSettings().get("com.pmu.GpaCalculation#enabled"));
+        assertEquals("true", configuration.getSettings().get("com.pmu.BulkGrading#enabled"));
+    }
+
+    @Test
+    @DisplayName("Events: Enrollment, GPA and grading should be recorded with their fields")
+    void testEventsRecorded(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("pmu.jfr");
+        try (Recording recording = FlightRecording.newRecording()) {
+            // Record every call regardless of the shipped thresholds
+            recording.enable(EnrollmentEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(GpaCalculationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            Student student = new Student("S001", "mohammed");
+            student.enrollCourse(new Course("Math", 3, "A"));
+            student.enrollCourse(new Course("Java", 3, "B"));
+            student.calculateGPA();
+            new GradeCalculator().calculateLetterGrades(new int[]{95, 85, 75}, new byte[3]);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        List<RecordedEvent> enrollments = eventsNamed(events, "com.pmu.Enrollment");
+        assertEquals(2, enrollments.size());
+        assertEquals("S001", enrollments.get(1).getString("studentId"));
+        assertEquals("Java", enrollments.get(1).getString("courseName"));
+        assertEquals(2, enrollments.get(1).getInt("courseCount"));
+
+        List<RecordedEvent> gpas = eventsNamed(events, "com.pmu.GpaCalculation");
+        assertEquals(1, gpas.size());
+        assertEquals(2, gpas.get(0).getInt("courseCount"));
+        assertEquals(3.5, gpas.get(0).getDouble("gpa"), 0.0001);
+        assertNotNull(gpas.get(0).getDuration());
+
+        List<RecordedEvent> grading = eventsNamed(events, "com.pmu.BulkGrading");
+        assertEquals(1, grading.size());
+        assertEquals(3, grading.get(0).getInt("scoreCount"));
+        assertFalse(grading.get(0).getBoolean("vectorized"));
+    }
+
+    @Test
+    @DisplayName("Events: A vectorized call should emit exactly one grading event")
+    void testVectorizedGradingEvent(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("pmu.jfr");
+        // 67 scores leave a scalar tail on any vector width
+        int[] scores = new int[67];
+        try (Recording recording = FlightRecording.newRecording()) {
+            recording.start();
+            new GradeCalculator().calculateLetterGradesVectorized(scores, new byte[scores.length]);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> grading = eventsNamed(RecordingFile.readAllEvents(file), "com.pmu.BulkGrading");
+        assertEquals(1, grading.size());
+        assertEquals(67, grading.get(0).getInt("scoreCount"));
+        assertEquals(GradeCalculator.isVectorEngineAvailable(), grading.get(0).getBoolean("vectorized"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.pmu;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GpaEngine
+ * Parallel results must be identical to the sequential Student.calculateGPA loop
+ */
+@DisplayName("GpaEngine Tests")
+class GpaEngineTest {
+
+    private static final String[] GRADES = {"A", "B", "C", "D", "F"};
+
+    private ForkJoinPool pool;
+    private List<Student> cohort;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        cohort = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Student student = new Student("S" + i, "student" + i);
+            for (int j = 0; j < i % 7; j++) {
+                student.enrollCourse(new Course("Course" + j, 1 + (i + j) % 6, GRADES[(i * 31 + j) % 5]));
+            }
+            cohort.add(student);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("computeAll: Parallel results should equal the sequential loop")
+    void testParallelMatchesSequential() {
+        GpaEngine engine = new GpaEngine(pool, 16, 0);
+        double[] gpas = engine.computeAll(cohort);
+
+        assertEquals(cohort.size(), gpas.length);
+        for (int i = 0; i < cohort.size(); i++) {
+            assertEquals(cohort.get(i).calculateGPA(), gpas[i], "GPA of student " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("computeAll: Small cohorts below the cutoff give the same results")
+    void testSequentialCutoff() {
+        GpaEngine engine = new GpaEngine(pool, 16, 10_000);
+        double[] sequential = engine.computeAll(cohort);
+        double[] parallel = new GpaEngine(pool, 16, 0).computeAll(cohort);
+        assertArrayEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("computeAll: Empty cohort should return an empty array")
+    void testEmptyCohort() {
+        assertEquals(0, new GpaEngine().computeAll(List.of()).length);
+    }
+
+    @Test
+    @DisplayName("computeAll: Output array smaller than the cohort should throw")
+    void testOutputTooSmall() {
+        Student[] students = cohort.toArray(new Student[0]);
+        assertThrows(IllegalArgumentException.class,
+                () -> new GpaEngine().computeAll(students, new double[1]));
+    }
+
+    @Test
+    @DisplayName("Constructor: Invalid settings should throw")
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new GpaEngine(null, 16, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GpaEngine(pool, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GpaEngine(pool, 16, -1));
+    }
+}
@@ -0,0 +1,111 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GpaHistogram
+ * Tests bucket counts, quantile error bounds and merging
+ */
+@DisplayName("GpaHistogram Tests")
+class GpaHistogramTest {
+
+    @Test
+    @DisplayName("Buckets: Values should land in equal-width buckets, 4.0 in the last")
+    void testBuckets() {
+        GpaHistogram histogram = new GpaHistogram(8);
+        histogram.add(0.0);
+        histogram.add(0.49);
+        histogram.add(0.5);
+        histogram.add(3.99);
+        histogram.add(4.0);
+        histogram.add(5.0);
+        histogram.add(-1.0);
+
+        assertArrayEquals(new long[]{3, 1, 0, 0, 0, 0, 0, 3}, histogram.getBucketCounts());
+        assertEquals(0.5, histogram.getBucketWidth());
+        assertEquals(1.5, histogram.getBucketLowerBound(3));
+        assertEquals(7, histogram.getCount());
+        assertEquals(0.0, histogram.getMin());
+        assertEquals(4.0, histogram.getMax());
+    }
+
+    @Test
+    @DisplayName("Empty: Statistics of an empty histogram should be 0.0")
+    void testEmpty() {
+        GpaHistogram histogram = new GpaHistogram(10);
+        assertEquals(0.0, histogram.median());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0.0, histogram.getMin());
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    @DisplayName("Invalid input: Bad arguments should throw")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new GpaHistogram(0));
+        assertThrows(IllegalArgumentException.class, () -> GpaHistogram.withMaxError(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new GpaHistogram(4).add(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new GpaHistogram(4).quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new GpaHistogram(4).merge(new GpaHistogram(8)));
+    }
+
+    @Test
+    @DisplayName("quantile: Estimates should stay within the configured error")
+    void testQuantileError() {
+        GpaHistogram histogram = GpaHistogram.withMaxError(0.01);
+        assertTrue(histogram.getMaxError() <= 0.01);
+
+        Random random = new Random(3);
+        double[] values = new double[20_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.min(4.0, Math.max(0.0, 2.8 + random.nextGaussian() * 0.6));
+            histogram.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.0, 0.1, 0.5, 0.9, 0.99, 1.0}) {
+            double exact = values[Math.max(0, (int) Math.ceil(q * values.length) - 1)];
+            assertEquals(exact, histogram.quantile(q), histogram.getMaxError() + 1e-9, "q=" + q);
+        }
+        assertEquals(Arrays.stream(values).average().getAsDouble(), histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("merge: Partitions merged should equal one histogram over all data")
+    void testMerge() {
+        List<Student> students = new ArrayList<>();
+        String[] letters = {"A", "B", "C", "D", "F"};
+        Random random = new Random(11);
+        for (int i = 0; i < 2000; i++) {
+            Student student = new Student("S" + i, "student");
+            for (int j = 0; j < 4; j++) {
+                student.enrollCourse(new Course("C" + j, 1 + random.nextInt(6), letters[random.nextInt(5)]));
+            }
+            students.add(student);
+        }
+
+        GpaHistogram whole = new GpaHistogram(400);
+        whole.addAll(students);
+
+        GpaHistogram merged = IntStream.range(0, students.size()).parallel()
+                .collect(() -> new GpaHistogram(400),
+                        (h, i) -> h.add(students.get(i).calculateGPA()),
+                        GpaHistogram::merge);
+
+        assertArrayEquals(whole.getBucketCounts(), merged.getBucketCounts());
+        assertEquals(whole.getCount(), merged.getCount());
+        assertEquals(whole.median(), merged.median());
+        assertEquals(whole.quantile(0.9), merged.quantile(0.9));
+        assertEquals(whole.getMean(), merged.getMean(), 1e-9);
+        assertEquals(whole.getMax(), merged.getMax());
+    }
+}
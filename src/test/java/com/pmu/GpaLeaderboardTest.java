@@ -0,0 +1,123 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GpaLeaderboard
+ * Tests ranking, tie-breaking and incremental updates against a full sort
+ */
+@DisplayName("GpaLeaderboard Tests")
+class GpaLeaderboardTest {
+
+    private Cohort cohort;
+    private GpaLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        cohort = new Cohort();
+        leaderboard = new GpaLeaderboard();
+        cohort.addListener(leaderboard);
+    }
+
+    private int addStudent(String id, String... grades) {
+        int ordinal = cohort.add(new Student(id, "student"));
+        for (String grade : grades) {
+            cohort.enroll(ordinal, new Course("Course", 3, grade));
+        }
+        return ordinal;
+    }
+
+    @Test
+    @DisplayName("topK: Students should be ordered by GPA, highest first")
+    void testTopK() {
+        int c = addStudent("S003", "C");
+        int a = addStudent("S001", "A");
+        int b = addStudent("S002", "B");
+
+        assertArrayEquals(new int[]{a, b, c}, leaderboard.topK(3));
+        assertArrayEquals(new int[]{a}, leaderboard.topK(1));
+        assertArrayEquals(new int[]{a, b, c}, leaderboard.topK(10));
+        assertArrayEquals(new int[0], leaderboard.topK(0));
+    }
+
+    @Test
+    @DisplayName("Ties: Equal GPAs should be ordered by id, then by ordinal")
+    void testTieBreaking() {
+        int second = addStudent("S002", "A");
+        int first = addStudent("S001", "A");
+        int defaultLater = addStudent(null, "B");
+        int defaultEarlier = cohort.add(new Student("", "student"));
+        // Enroll the earlier-added default-id student later; ordinal order still decides
+        cohort.enroll(defaultEarlier, new Course("Course", 3, "B"));
+
+        assertArrayEquals(new int[]{first, second, defaultLater, defaultEarlier}, leaderboard.topK(4));
+    }
+
+    @Test
+    @DisplayName("rankOf: Ranks and percentiles should follow enrollments")
+    void testRankUpdates() {
+        int top = addStudent("S001", "A");
+        int low = addStudent("S002", "D");
+        assertEquals(2, leaderboard.rankOf(low));
+        assertEquals(0.0, leaderboard.percentileOf(low));
+
+        cohort.enroll(low, new Course("Math", 6, "A"));
+        cohort.enroll(low, new Course("Java", 6, "A"));
+        cohort.enroll(top, new Course("Art", 3, "C"));
+
+        assertEquals(1, leaderboard.rankOf(low));
+        assertEquals(low, leaderboard.atRank(1));
+        assertEquals(top, leaderboard.atRank(2));
+        assertEquals(50.0, leaderboard.percentileOf(low));
+        assertEquals(3.0, leaderboard.getGpa(top), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Invalid input: Unknown ordinals and ranks should throw")
+    void testInvalidInput() {
+        addStudent("S001", "A");
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.rankOf(5));
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.rankOf(-1));
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.atRank(0));
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.atRank(2));
+    }
+
+    @Test
+    @DisplayName("Random cohort: Ranking should match a full sort after every update")
+    void testMatchesFullSort() {
+        Random random = new Random(7);
+        String[] letters = {"A", "B", "C", "D", "F"};
+        for (int i = 0; i < 300; i++) {
+            cohort.add(new Student(String.format("S%03d", random.nextInt(200)), "student"));
+        }
+        for (int round = 0; round < 2000; round++) {
+            cohort.enroll(random.nextInt(cohort.size()),
+                    new Course("Course", 1 + random.nextInt(6), letters[random.nextInt(5)]));
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < cohort.size(); i++) {
+            expected.add(i);
+        }
+        expected.sort(Comparator.<Integer>comparingDouble(i -> -cohort.get(i).calculateGPA())
+                .thenComparing(i -> cohort.get(i).getId())
+                .thenComparingInt(i -> i));
+
+        int[] ranked = leaderboard.topK(cohort.size());
+        for (int rank = 1; rank <= expected.size(); rank++) {
+            int ordinal = expected.get(rank - 1);
+            assertEquals(ordinal, ranked[rank - 1]);
+            assertEquals(rank, leaderboard.rankOf(ordinal));
+            assertEquals(ordinal, leaderboard.atRank(rank));
+        }
+    }
+}
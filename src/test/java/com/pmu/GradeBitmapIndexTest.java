@@ -0,0 +1,130 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GradeBitmapIndex
+ * Tests grade and credit bitmaps against a plain scan over the courses
+ */
+@DisplayName("GradeBitmapIndex Tests")
+class GradeBitmapIndexTest {
+
+    private Cohort cohort;
+    private GradeBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        cohort = new Cohort();
+        index = new GradeBitmapIndex();
+        cohort.addListener(index);
+    }
+
+    private static BitSet bits(int... ordinals) {
+        BitSet result = new BitSet();
+        for (int ordinal : ordinals) {
+            result.set(ordinal);
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("withGrade: Grade and credit range should apply to the same course")
+    void testSameCourseCondition() {
+        int first = cohort.add(new Student("S001", "mohammed"));
+        int second = cohort.add(new Student("S002", "ahmad"));
+        // first: F in a 4-credit course; second: F only in a 3-credit course plus an A in 4 credits
+        cohort.enroll(first, new Course("Math", 4, "F"));
+        cohort.enroll(second, new Course("Math", 3, "F"));
+        cohort.enroll(second, new Course("Java", 4, "A"));
+
+        assertEquals(bits(first), index.withGrade(Grade.F, 4, 6));
+        assertEquals(bits(first, second), index.withGrade(Grade.F));
+        assertEquals(bits(first, second), index.withCredits(4, 6));
+        assertEquals(bits(second), index.withCredits(1, 3));
+    }
+
+    @Test
+    @DisplayName("withOnly: Only students with all A's should match")
+    void testAllAs() {
+        int allA = cohort.add(new Student("S001", "mohammed"));
+        int mixed = cohort.add(new Student("S002", "ahmad"));
+        cohort.add(new Student("S003", "hadi"));
+        cohort.enroll(allA, new Course("Math", 3, "A"));
+        cohort.enroll(allA, new Course("Java", 4, "A"));
+        cohort.enroll(mixed, new Course("Math", 3, "A"));
+        cohort.enroll(mixed, new Course("Java", 4, "B"));
+
+        assertEquals(bits(allA), index.withOnly(Grade.A));
+        assertEquals(bits(allA, mixed), index.enrolled());
+        assertEquals(bits(0, 1, 2), index.all());
+    }
+
+    @Test
+    @DisplayName("Combination: Query results should combine with and, or and andNot")
+    void testCombination() {
+        int first = cohort.add(new Student("S001", "mohammed"));
+        int second = cohort.add(new Student("S002", "ahmad"));
+        cohort.enroll(first, new Course("Math", 3, "A"));
+        cohort.enroll(first, new Course("Java", 3, "C"));
+        cohort.enroll(second, new Course("Math", 3, "A"));
+
+        BitSet aButNoC = index.withGrade(Grade.A);
+        aButNoC.andNot(index.withGrade(Grade.C));
+        assertEquals(bits(second), aButNoC);
+
+        // Query results are copies; changing one must not affect the index
+        assertEquals(bits(first, second), index.withGrade(Grade.A));
+    }
+
+    @Test
+    @DisplayName("Attach: Courses enrolled before attaching should be indexed")
+    void testExistingCourses() {
+        Student student = new Student("S001", "mohammed");
+        student.enrollCourse(new Course("Math", 5, "D"));
+        Cohort existing = new Cohort();
+        existing.add(new Student("S000", "empty"));
+        existing.add(student);
+
+        GradeBitmapIndex late = new GradeBitmapIndex();
+        existing.addListener(late);
+        assertEquals(bits(1), late.withGrade(Grade.D, 5, 5));
+        assertEquals(bits(0, 1), late.all());
+    }
+
+    @Test
+    @DisplayName("Random cohort: Bitmap queries should match a full scan")
+    void testMatchesScan() {
+        Random random = new Random(42);
+        String[] letters = {"A", "B", "C", "D", "F"};
+        for (int i = 0; i < 500; i++) {
+            int ordinal = cohort.add(new Student("S" + i, "student"));
+            int courses = random.nextInt(6);
+            for (int j = 0; j < courses; j++) {
+                cohort.enroll(ordinal, new Course("C" + j, 1 + random.nextInt(6), letters[random.nextInt(5)]));
+            }
+        }
+
+        BitSet anyFHeavy = new BitSet();
+        BitSet allA = new BitSet();
+        for (int i = 0; i < cohort.size(); i++) {
+            boolean onlyA = !cohort.get(i).getCourses().isEmpty();
+            for (Course course : cohort.get(i).getCourses()) {
+                if (course.getGrade() == Grade.F && course.getCreditHours() >= 4) {
+                    anyFHeavy.set(i);
+                }
+                onlyA &= course.getGrade() == Grade.A;
+            }
+            allA.set(i, onlyA);
+        }
+
+        assertEquals(anyFHeavy, index.withGrade(Grade.F, 4, 6));
+        assertEquals(allA, index.withOnly(Grade.A));
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -214,4 +216,101 @@ class GradeCalculatorTest {
         // Invalid positive
         assertEquals("Invalid", gradeCalculator.calculateLetterGrade(150));
     }
-}
\ No newline at end of file
+
+    // ============ BATCH API TESTS ============
+
+    @Test
+    @DisplayName("Batch: Every score from -200 to 300 matches calculateLetterGrade")
+    void testBatchMatchesScalar() {
+        int[] scores = new int[501];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = i - 200;
+        }
+        byte[] codes = new byte[scores.length];
+        gradeCalculator.calculateLetterGrades(scores, codes);
+
+        for (int i = 0; i < scores.length; i++) {
+            assertEquals(gradeCalculator.calculateLetterGrade(scores[i]), GradeCalculator.letterFor(codes[i]),
+                    "Score " + scores[i] + " should match the scalar grade");
+        }
+    }
+
+    @Test
+    @DisplayName("Batch: Extreme integers are classified as Invalid")
+    void testBatchExtremeScores() {
+        int[] scores = {Integer.MIN_VALUE, Integer.MAX_VALUE};
+        byte[] codes = new byte[2];
+        gradeCalculator.calculateLetterGrades(scores, codes);
+        assertEquals(GradeCalculator.INVALID, codes[0]);
+        assertEquals(GradeCalculator.INVALID, codes[1]);
+    }
+
+    @Test
+    @DisplayName("Batch: Range variant writes only the requested slice")
+    void testBatchRange() {
+        int[] scores = {95, 85, 75, 65, 55};
+        byte[] codes = {9, 9, 9, 9, 9};
+        gradeCalculator.calculateLetterGrades(scores, 1, codes, 2, 3);
+        assertArrayEquals(new byte[]{9, 9, GradeCalculator.GRADE_B, GradeCalculator.GRADE_C, GradeCalculator.GRADE_D}, codes);
+    }
+
+    @Test
+    @DisplayName("Batch: Output buffer shorter than input should throw")
+    void testBatchOutputTooSmall() {
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> gradeCalculator.calculateLetterGrades(new int[3], new byte[2]));
+    }
+
+    // ============ VECTORIZED API TESTS ============
+
+    @DisplayName("Vectorized: Boundary values agree with calculateLetterGrade")
+    @ParameterizedTest
+    @ValueSource(ints = {-100, -50, -10, -1, 0, 1, 30, 50, 59, 60, 61, 65, 69, 70, 71, 75, 79,
+            80, 81, 85, 89, 90, 91, 95, 99, 100, 101, 110, 150, 200})
+    void testVectorizedBoundaries(int score) {
+        // Fill a full vector and a tail so both the SIMD lanes and the scalar remainder see the score
+        int[] scores = new int[67];
+        Arrays.fill(scores, score);
+        byte[] codes = new byte[scores.length];
+        gradeCalculator.calculateLetterGradesVectorized(scores, codes);
+
+        for (byte code : codes) {
+            assertEquals(gradeCalculator.calculateLetterGrade(score), GradeCalculator.letterFor(code),
+                    "Score " + score + " should match the scalar grade");
+        }
+    }
+
+    @Test
+    @DisplayName("Vectorized: Mixed scores produce the same codes as the scalar table")
+    void testVectorizedMatchesBatch() {
+        int[] scores = new int[503];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = i - 201;
+        }
+        scores[0] = Integer.MIN_VALUE;
+        scores[1] = Integer.MAX_VALUE;
+
+        byte[] expected = new byte[scores.length];
+        byte[] actual = new byte[scores.length];
+        gradeCalculator.calculateLetterGrades(scores, expected);
+        gradeCalculator.calculateLetterGradesVectorized(scores, actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Vectorized: Range variant leaves bytes outside the slice untouched")
+    void testVectorizedRange() {
+        int[] scores = new int[40];
+        Arrays.fill(scores, 95);
+        byte[] codes = new byte[44];
+        Arrays.fill(codes, (byte) 9);
+        gradeCalculator.calculateLetterGradesVectorized(scores, 0, codes, 2, 40);
+
+        assertEquals(9, codes[0]);
+        assertEquals(9, codes[1]);
+        assertEquals(GradeCalculator.GRADE_A, codes[2]);
+        assertEquals(GradeCalculator.GRADE_A, codes[41]);
+        assertEquals(9, codes[42]);
+        assertEquals(9, codes[43]);
+    }
+}
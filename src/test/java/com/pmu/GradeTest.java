@@ -0,0 +1,59 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Grade
+ * Tests letter parsing, ordinal lookup and grade points
+ */
+@DisplayName("Grade Tests")
+class GradeTest {
+
+    @Test
+    @DisplayName("fromLetter: Valid letters should map to their grade")
+    void testFromLetterValid() {
+        assertEquals(Grade.A, Grade.fromLetter("A"));
+        assertEquals(Grade.B, Grade.fromLetter("B"));
+        assertEquals(Grade.C, Grade.fromLetter("C"));
+        assertEquals(Grade.D, Grade.fromLetter("D"));
+        assertEquals(Grade.F, Grade.fromLetter("F"));
+    }
+
+    @DisplayName("fromLetter: Invalid letters should return null")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "E", "a", "AA", "Invalid", " A"})
+    void testFromLetterInvalid(String letter) {
+        assertNull(Grade.fromLetter(letter));
+    }
+
+    @Test
+    @DisplayName("fromLetter: Null should return null")
+    void testFromLetterNull() {
+        assertNull(Grade.fromLetter(null));
+    }
+
+    @Test
+    @DisplayName("getGradePoint: Points should run from 4.0 (A) down to 0.0 (F)")
+    void testGradePoints() {
+        assertEquals(4.0, Grade.A.getGradePoint());
+        assertEquals(3.0, Grade.B.getGradePoint());
+        assertEquals(2.0, Grade.C.getGradePoint());
+        assertEquals(1.0, Grade.D.getGradePoint());
+        assertEquals(0.0, Grade.F.getGradePoint());
+    }
+
+    @Test
+    @DisplayName("fromOrdinal: Ordinals should match GradeCalculator grade codes")
+    void testFromOrdinalMatchesCalculatorCodes() {
+        assertEquals(Grade.A, Grade.fromOrdinal(GradeCalculator.GRADE_A));
+        assertEquals(Grade.B, Grade.fromOrdinal(GradeCalculator.GRADE_B));
+        assertEquals(Grade.C, Grade.fromOrdinal(GradeCalculator.GRADE_C));
+        assertEquals(Grade.D, Grade.fromOrdinal(GradeCalculator.GRADE_D));
+        assertEquals(Grade.F, Grade.fromOrdinal(GradeCalculator.GRADE_F));
+    }
+}
@@ -0,0 +1,91 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LatencyHistogram
+ * Tests bucket boundaries, percentile precision and concurrent recording
+ */
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Buckets: Every value should fall inside its bucket's bounds")
+    void testBucketBounds() {
+        long[] values = {0, 1, 63, 64, 65, 127, 128, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.lowerBoundOf(bucket) <= value, "value " + value);
+            assertTrue(LatencyHistogram.upperBoundOf(bucket) >= value, "value " + value);
+        }
+        // Small values are exact; neighbouring buckets do not overlap
+        assertEquals(LatencyHistogram.bucketOf(63) + 1, LatencyHistogram.bucketOf(64));
+        for (int bucket = 0; bucket < 500; bucket++) {
+            assertEquals(LatencyHistogram.upperBoundOf(bucket) + 1, LatencyHistogram.lowerBoundOf(bucket + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Percentiles: Values should be within about 3% of the exact result")
+    void testPercentilePrecision() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        Random random = new Random(9);
+        long[] values = new long[50_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 16);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double p : new double[]{1, 50, 90, 99, 99.9, 100}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long estimate = histogram.getValueAtPercentile(p);
+            assertTrue(estimate >= exact, "p" + p);
+            assertTrue(estimate <= exact + exact / 32 + 1, "p" + p + ": " + estimate + " vs " + exact);
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(Arrays.stream(values).average().getAsDouble(), histogram.getMean(), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Empty and reset: Statistics should be zero")
+    void testEmptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        histogram.record(-5);
+        histogram.record(100);
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    @DisplayName("Concurrency: Recording from many threads should not lose values")
+    void testConcurrentRecording() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 25_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(24_999, histogram.getMax());
+    }
+}
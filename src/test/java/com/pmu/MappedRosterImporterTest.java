@@ -0,0 +1,102 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MappedRosterImporter
+ * The parallel import must give exactly the same students as RosterCsvLoader.loadInto
+ */
+@DisplayName("MappedRosterImporter Tests")
+class MappedRosterImporterTest {
+
+    private static final String[] GRADES = {"A", "B", "C", "D", "F", "Z", ""};
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeRoster() throws IOException {
+        StringBuilder csv = new StringBuilder(RosterFormat.HEADER).append('\n');
+        for (int row = 0; row < 3000; row++) {
+            // Mostly grouped ids with some students coming back later in the file
+            int student = (row / 4) % 500;
+            String id = student == 7 ? "" : "S" + student;
+            csv.append(id).append(",name").append(student).append(",Course").append(row % 13)
+                    .append(',').append(row % 9).append(',').append(GRADES[row % GRADES.length]);
+            csv.append(row % 5 == 0 ? "\r\n" : "\n");
+        }
+        csv.append("S1,ñame,Ürdu,4,A"); // no trailing newline, non-ASCII text
+        Path file = tempDir.resolve("roster.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static Map<String, Student> loadSequential(Path file) throws IOException {
+        Map<String, Student> students = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            new RosterCsvLoader().loadInto(reader, students);
+        }
+        return students;
+    }
+
+    @DisplayName("importInto: Should match the single-threaded loader")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 8, 64})
+    void testMatchesLoader(int threads) throws IOException {
+        Path file = writeRoster();
+        Map<String, Student> expected = loadSequential(file);
+
+        Map<String, Student> actual = new LinkedHashMap<>();
+        RosterCsvLoader.LoadStats stats = new MappedRosterImporter(threads).importInto(file, actual);
+
+        assertEquals(3001, stats.rows());
+        assertEquals(expected.size(), stats.students());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        for (Student want : expected.values()) {
+            Student got = actual.get(want.getId());
+            assertEquals(want.getName(), got.getName());
+            assertEquals(want.calculateGPA(), got.calculateGPA());
+            List<Course> wantCourses = want.getCourses();
+            List<Course> gotCourses = got.getCourses();
+            assertEquals(wantCourses.size(), gotCourses.size());
+            for (int i = 0; i < wantCourses.size(); i++) {
+                assertEquals(wantCourses.get(i).getCourseName(), gotCourses.get(i).getCourseName());
+                assertEquals(wantCourses.get(i).getCreditHours(), gotCourses.get(i).getCreditHours());
+                assertEquals(wantCourses.get(i).getLetterGrade(), gotCourses.get(i).getLetterGrade());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("importInto: Empty file should import nothing")
+    void testEmptyFile() throws IOException {
+        Path file = tempDir.resolve("empty.csv");
+        Files.writeString(file, "");
+        Map<String, Student> students = new LinkedHashMap<>();
+        RosterCsvLoader.LoadStats stats = new MappedRosterImporter(4).importInto(file, students);
+
+        assertEquals(0, stats.rows());
+        assertTrue(students.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Constructor: Fewer than one thread should throw")
+    void testInvalidThreads() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedRosterImporter(0));
+    }
+}
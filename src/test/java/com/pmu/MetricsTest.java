@@ -0,0 +1,156 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test class for MetricsRegistry and the built-in instrumentation
+ * Instrumentation tests only run when -Dpmu.metrics.enabled=true (the build's metrics-enabled
+ * execution); the default run checks that nothing is recorded
+ */
+@DisplayName("Metrics Tests")
+class MetricsTest {
+
+    private static long counter(String name) {
+        return Metrics.REGISTRY.getCounterValues().getOrDefault(name, 0L);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Metrics.REGISTRY.reset();
+    }
+
+    @Test
+    @DisplayName("Registry: Instruments should be created once and shared by name")
+    void testRegistry() {
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsRegistry.Counter counter = registry.counter("requests");
+        assertSame(counter, registry.counter("requests"));
+        assertSame(registry.histogram("latency"), registry.histogram("latency"));
+
+        counter.increment();
+        counter.add(4);
+        registry.histogram("latency").record(1_000);
+        assertEquals(5L, registry.getCounterValues().get("requests"));
+        assertTrue(registry.format().contains("requests 5"));
+        assertTrue(registry.format().contains("latency count=1"));
+
+        registry.reset();
+        assertEquals(0, counter.get());
+        assertEquals(0, registry.histogram("latency").getCount());
+    }
+
+    @Test
+    @DisplayName("Disabled: Instrumented paths should record nothing")
+    void testDisabledRecordsNothing() {
+        assumeFalse(Metrics.ENABLED);
+        Student student = new Student("S001", "mohammed");
+        student.enrollCourse(new Course("Math", 3, "A"));
+        student.calculateGPA();
+        new GradeCalculator().calculateLetterGrade(-1);
+        new GradeCalculator().calculateLetterGrades(new int[]{50, 60, 70}, new byte[3]);
+
+        assertTrue(Metrics.REGISTRY.getCounterValues().values().stream().allMatch(v -> v == 0));
+        assertEquals(0, Metrics.REGISTRY.histogram("student.gpa.latency").getCount());
+    }
+
+    @Test
+    @DisplayName("GradeCalculator: Grades and invalid scores should be counted")
+    void testGradeCounters() {
+        assumeTrue(Metrics.ENABLED);
+        GradeCalculator calculator = new GradeCalculator();
+        calculator.calculateLetterGrade(95);
+        calculator.calculateLetterGrade(-1);
+        calculator.calculateLetterGrade(101);
+        calculator.calculateLetterGrades(new int[]{50, 60, 70}, new byte[3]);
+
+        assertEquals(6, counter("grades.calculated"));
+        assertEquals(2, counter("grades.invalid"));
+        assertEquals(1, counter("grades.bulk.calls"));
+    }
+
+    @Test
+    @DisplayName("GradeCalculator: Bulk paths should count each score once and their invalid scores")
+    void testBulkGradeCounters() {
+        assumeTrue(Metrics.ENABLED);
+        GradeCalculator calculator = new GradeCalculator();
+        // 67 scores leave a tail on any vector width; every tenth one is out of range
+        int[] scores = new int[67];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = i % 10 == 0 ? 150 : i;
+        }
+
+        calculator.calculateLetterGradesVectorized(scores, new byte[67]);
+        assertEquals(67, counter("grades.calculated"));
+        assertEquals(7, counter("grades.invalid"));
+        assertEquals(1, counter("grades.bulk.calls"));
+
+        calculator.calculateLetterGrades(scores, new byte[67]);
+        assertEquals(134, counter("grades.calculated"));
+        assertEquals(14, counter("grades.invalid"));
+        assertEquals(2, counter("grades.bulk.calls"));
+    }
+
+    @Test
+    @DisplayName("Course: Defaulted names, credits and grades should be counted")
+    void testCourseDefaultCounters() {
+        assumeTrue(Metrics.ENABLED);
+        new Course("Math", 3, "A");
+        new Course(null, 0, "Z");
+        new Course("", 9, "B");
+        Course.of("Java", 7, null);
+
+        assertEquals(2, counter("course.name.defaulted"));
+        assertEquals(3, counter("course.credits.defaulted"));
+        assertEquals(2, counter("course.grade.defaulted"));
+    }
+
+    @Test
+    @DisplayName("Student: Enrollments and GPA calls should be counted and timed")
+    void testStudentInstrumentation() {
+        assumeTrue(Metrics.ENABLED);
+        Student student = new Student("S001", "mohammed");
+        student.enrollCourse(new Course("Math", 3, "A"));
+        student.enrollCourse(null);
+        student.calculateGPA();
+        student.calculateGPA();
+
+        assertEquals(1, counter("student.enrollments"));
+        assertEquals(2, counter("student.gpa.calculations"));
+        assertEquals(1, Metrics.REGISTRY.histogram("student.enroll.latency").getCount());
+        assertEquals(2, Metrics.REGISTRY.histogram("student.gpa.latency").getCount());
+    }
+
+    @Test
+    @DisplayName("ConcurrentEnrollmentService: Each GPA read should count once while writers race it")
+    void testConcurrentGpaCountedOnce() throws Exception {
+        assumeTrue(Metrics.ENABLED);
+        ConcurrentEnrollmentService service = new ConcurrentEnrollmentService(1);
+        service.register(new Student("S001", "mohammed"));
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            Course course = new Course("Math", 3, "A");
+            for (int i = 0; i < 1_000_000 && !done.get(); i++) {
+                service.enroll("S001", course);
+            }
+        });
+        writer.start();
+        int reads = 100_000;
+        try {
+            for (int i = 0; i < reads; i++) {
+                service.calculateGPA("S001");
+            }
+        } finally {
+            done.set(true);
+            writer.join();
+        }
+        assertEquals(reads, counter("student.gpa.calculations"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.pmu;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for OffHeapEnrollmentStore
+ * Checks GPA parity with Student, growth and the explicit close lifecycle
+ */
+@DisplayName("OffHeapEnrollmentStore Tests")
+class OffHeapEnrollmentStoreTest {
+
+    private OffHeapEnrollmentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new OffHeapEnrollmentStore(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("computeGpa: Should match Student.calculateGPA")
+    void testComputeGpaMatchesStudent() {
+        Student student = new Student("S001", "mohammed");
+        student.enrollCourse(new Course("Math", 3, "A"));
+        student.enrollCourse(new Course("English", 4, "B"));
+        student.enrollCourse(new Course("Science", 2, "F"));
+        store.append(0, student);
+
+        assertEquals(3, store.size());
+        assertEquals(student.calculateGPA(), store.computeGpa(0));
+    }
+
+    @Test
+    @DisplayName("computeAllGpas: Interleaved students and empty students")
+    void testComputeAllGpas() {
+        store.append(0, 3, Grade.A);
+        store.append(2, 5, Grade.C);
+        store.append(0, 1, Grade.D);
+        store.append(2, 2, Grade.B);
+
+        double[] gpas = new double[3];
+        store.computeAllGpas(gpas);
+
+        assertEquals(3, store.getStudentCount());
+        assertEquals((4.0 * 3 + 1.0 * 1) / 4.0, gpas[0]);
+        assertEquals(0.0, gpas[1]);
+        assertEquals((2.0 * 5 + 3.0 * 2) / 7.0, gpas[2]);
+    }
+
+    @Test
+    @DisplayName("computeAllGpas: Repeated runs should not carry credits over, and should see new students")
+    void testComputeAllGpasRepeated() {
+        store.append(0, 4, Grade.B);
+        double[] gpas = new double[4];
+        store.computeAllGpas(gpas);
+        store.computeAllGpas(gpas);
+        assertEquals(3.0, gpas[0]);
+
+        store.append(3, 2, Grade.A);
+        store.computeAllGpas(gpas);
+        assertEquals(3.0, gpas[0]);
+        assertEquals(0.0, gpas[1]);
+        assertEquals(4.0, gpas[3]);
+    }
+
+    @Test
+    @DisplayName("append: Out-of-range credit hours should default to 3, null course is ignored")
+    void testAppendDefaults() {
+        store.append(0, 9, Grade.A);
+        store.append(0, (Course) null);
+        store.append(1, 2, Grade.F);
+
+        assertEquals(2, store.size());
+        assertEquals(4.0, store.computeGpa(0));
+        assertEquals(0.0, store.computeGpa(1));
+    }
+
+    @Test
+    @DisplayName("append: Store should grow beyond its initial capacity")
+    void testGrowth() {
+        for (int i = 0; i < 1000; i++) {
+            store.append(i % 10, 1 + (i % 6), Grade.fromOrdinal(i % 5));
+        }
+        assertEquals(1000, store.size());
+        assertTrue(store.getReservedBytes() >= 1000L * OffHeapEnrollmentStore.RECORD_SIZE);
+    }
+
+    @Test
+    @DisplayName("close: Store should reject use after close and allow a second close")
+    void testClose() {
+        store.append(0, 3, Grade.A);
+        store.close();
+
+        assertTrue(store.isClosed());
+        assertThrows(IllegalStateException.class, () -> store.computeGpa(0));
+        assertThrows(IllegalStateException.class, () -> store.append(0, 3, Grade.A));
+        assertDoesNotThrow(store::close);
+    }
+
+    @Test
+    @DisplayName("Constructor: Non-positive capacity should throw")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapEnrollmentStore(0));
+    }
+}
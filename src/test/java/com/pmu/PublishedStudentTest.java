@@ -0,0 +1,74 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for PublishedStudent
+ * Tests lock-free readers against concurrent writers
+ */
+@DisplayName("PublishedStudent Tests")
+class PublishedStudentTest {
+
+    @Test
+    @DisplayName("enrollCourse: Published snapshot should include the course")
+    void testEnroll() {
+        PublishedStudent student = new PublishedStudent("S001", "mohammed");
+        StudentSnapshot before = student.snapshot();
+        StudentSnapshot after = student.enrollCourse(new Course("Math", 3, "B"));
+
+        assertSame(after, student.snapshot());
+        assertEquals(0, before.getCourses().size());
+        assertEquals(3.0, student.calculateGPA());
+        assertSame(after, student.enrollCourse(null));
+        assertThrows(IllegalArgumentException.class, () -> new PublishedStudent(null));
+    }
+
+    @Test
+    @DisplayName("Concurrency: Writers should not lose enrollments and readers should see whole snapshots")
+    void testConcurrentReadersAndWriters() throws Exception {
+        PublishedStudent student = new PublishedStudent("S001", "mohammed");
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicBoolean torn = new AtomicBoolean();
+
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                StudentSnapshot snapshot = student.snapshot();
+                int credits = 0;
+                for (Course course : snapshot.getCourses()) {
+                    credits += course.getCreditHours();
+                }
+                if (credits != snapshot.getTotalCredits()) {
+                    torn.set(true);
+                }
+            }
+        });
+        reader.start();
+
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < 2500; i++) {
+                    student.enrollCourse(Course.of("Math", 3, "A"));
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        done.set(true);
+        reader.join();
+
+        assertFalse(torn.get());
+        assertEquals(10_000, student.snapshot().getCourses().size());
+        assertEquals(30_000, student.snapshot().getTotalCredits());
+    }
+}
@@ -0,0 +1,112 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for RosterCsvLoader
+ * Tests streaming and merging loads, header/blank-line handling and constructor defaulting
+ */
+@DisplayName("RosterCsvLoader Tests")
+class RosterCsvLoaderTest {
+
+    private static final String ROSTER = "studentId,name,course,credits,grade\n"
+            + "S001,mohammed,Math,3,A\n"
+            + "S001,mohammed,English,4,B\r\n"
+            + "\n"
+            + "S002,ahmad,Science,2,F\n"
+            + "S002,ahmad,Math,3,C";
+
+    private RosterCsvLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        // Tiny buffer so lines straddle several reads
+        loader = new RosterCsvLoader(7);
+    }
+
+    @Test
+    @DisplayName("stream: Grouped rows should produce one Student per id, in file order")
+    void testStream() throws IOException {
+        List<Student> students = new ArrayList<>();
+        RosterCsvLoader.LoadStats stats = loader.stream(new StringReader(ROSTER), students::add);
+
+        assertEquals(4, stats.rows());
+        assertEquals(2, stats.students());
+        assertEquals(2, students.size());
+
+        Student first = students.get(0);
+        assertEquals("S001", first.getId());
+        assertEquals("mohammed", first.getName());
+        assertEquals(2, first.getCourses().size());
+        assertEquals("English", first.getCourses().get(1).getCourseName());
+        assertEquals("B", first.getCourses().get(1).getLetterGrade());
+        assertEquals((4.0 * 3 + 3.0 * 4) / 7.0, first.calculateGPA(), 0.0001);
+
+        Student second = students.get(1);
+        assertEquals("S002", second.getId());
+        assertEquals((0.0 * 2 + 2.0 * 3) / 5.0, second.calculateGPA(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("loadInto: Interleaved rows should merge by id")
+    void testLoadIntoMerges() throws IOException {
+        String interleaved = "S001,mohammed,Math,3,A\nS002,ahmad,Science,2,F\nS001,other,English,4,B\n";
+        Map<String, Student> students = new LinkedHashMap<>();
+        RosterCsvLoader.LoadStats stats = loader.loadInto(new StringReader(interleaved), students);
+
+        assertEquals(3, stats.rows());
+        assertEquals(2, stats.students());
+        Student first = students.get("S001");
+        assertEquals("mohammed", first.getName());
+        assertEquals(2, first.getCourses().size());
+        assertEquals(List.of("S001", "S002"), new ArrayList<>(students.keySet()));
+    }
+
+    @Test
+    @DisplayName("Defaults: Empty id/name/course and invalid credits/grade follow the constructors")
+    void testDefaults() throws IOException {
+        String rows = ",,,abc,Z\nS003,hadi,Physics,9\n";
+        Map<String, Student> students = new LinkedHashMap<>();
+        loader.loadInto(new StringReader(rows), students);
+
+        Student defaulted = students.get("0000");
+        assertEquals("Unknown", defaulted.getName());
+        Course course = defaulted.getCourses().get(0);
+        assertEquals("Unknown", course.getCourseName());
+        assertEquals(3, course.getCreditHours());
+        assertEquals("F", course.getLetterGrade());
+
+        Course missingGrade = students.get("S003").getCourses().get(0);
+        assertEquals(3, missingGrade.getCreditHours());
+        assertEquals("F", missingGrade.getLetterGrade());
+    }
+
+    @Test
+    @DisplayName("parseCredits: Signed, padded and non-numeric values")
+    void testParseCredits() {
+        assertEquals(4, RosterFormat.parseCredits("04".toCharArray(), 0, 2));
+        assertEquals(5, RosterFormat.parseCredits("+5".toCharArray(), 0, 2));
+        assertEquals(-2, RosterFormat.parseCredits("-2".toCharArray(), 0, 2));
+        assertEquals(0, RosterFormat.parseCredits("3a".toCharArray(), 0, 2));
+        assertEquals(0, RosterFormat.parseCredits("-".toCharArray(), 0, 1));
+        assertEquals(1_000_000, RosterFormat.parseCredits("99999999999".toCharArray(), 0, 11));
+    }
+
+    @Test
+    @DisplayName("LoadStats: Rows per second is derived from rows and elapsed time")
+    void testRowsPerSecond() {
+        assertEquals(2000.0, new RosterCsvLoader.LoadStats(2, 1, 1_000_000).rowsPerSecond());
+        assertEquals(0.0, new RosterCsvLoader.LoadStats(2, 1, 0).rowsPerSecond());
+    }
+}
@@ -0,0 +1,152 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for RosterSnapshot
+ * Round-tripping must reproduce getId/getName/getCourses/calculateGPA exactly
+ */
+@DisplayName("RosterSnapshot Tests")
+class RosterSnapshotTest {
+
+    private static final String[] GRADES = {"A", "B", "C", "D", "F"};
+
+    @TempDir
+    Path tempDir;
+
+    private static void assertSameStudents(List<Student> expected, List<Student> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int s = 0; s < expected.size(); s++) {
+            Student want = expected.get(s);
+            Student got = actual.get(s);
+            assertEquals(want.getId(), got.getId());
+            assertEquals(want.getName(), got.getName());
+            assertEquals(want.calculateGPA(), got.calculateGPA());
+            assertEquals(want.getCourses().size(), got.getCourses().size());
+            for (int c = 0; c < want.getCourses().size(); c++) {
+                Course wantCourse = want.getCourses().get(c);
+                Course gotCourse = got.getCourses().get(c);
+                assertEquals(wantCourse.getCourseName(), gotCourse.getCourseName());
+                assertEquals(wantCourse.getCreditHours(), gotCourse.getCreditHours());
+                assertEquals(wantCourse.getLetterGrade(), gotCourse.getLetterGrade());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Round trip: Students, course order and GPAs should be identical")
+    void testRoundTrip() throws IOException {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Student student = new Student(i == 3 ? null : "S" + i, i % 11 == 0 ? "" : "name" + i);
+            for (int j = 0; j < i % 9; j++) {
+                student.enrollCourse(new Course("Course" + (i * j) % 40, 1 + (i + j) % 6, GRADES[(i + 2 * j) % 5]));
+            }
+            students.add(student);
+        }
+        students.get(1).enrollCourse(new Course("Économie", 2, "B"));
+
+        Path file = tempDir.resolve("roster.snap");
+        RosterSnapshot.write(file, students);
+        assertSameStudents(students, RosterSnapshot.read(file));
+    }
+
+    @Test
+    @DisplayName("Round trip: Empty cohort")
+    void testEmptyRoundTrip() throws IOException {
+        Path file = tempDir.resolve("empty.snap");
+        RosterSnapshot.write(file, List.of());
+        assertTrue(RosterSnapshot.read(file).isEmpty());
+    }
+
+    @Test
+    @DisplayName("read: Wrong magic number should be rejected")
+    void testBadMagic() throws IOException {
+        Path file = tempDir.resolve("bad.snap");
+        Files.write(file, new byte[RosterSnapshot.HEADER_SIZE]);
+        IOException e = assertThrows(IOException.class, () -> RosterSnapshot.read(file));
+        assertTrue(e.getMessage().contains("magic"));
+    }
+
+    @Test
+    @DisplayName("read: Unknown version should be rejected")
+    void testBadVersion() throws IOException {
+        Path file = tempDir.resolve("future.snap");
+        RosterSnapshot.write(file, List.of(new Student("S001", "mohammed")));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[4] = 99;
+        Files.write(file, bytes);
+        IOException e = assertThrows(IOException.class, () -> RosterSnapshot.read(file));
+        assertTrue(e.getMessage().contains("version"));
+    }
+
+    @Test
+    @DisplayName("Windows: Small mapping windows should read the same students, split between students")
+    void testWindowedRead() throws IOException {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Student student = new Student("S" + i, "name" + i);
+            for (int j = 0; j < i % 7; j++) {
+                student.enrollCourse(new Course("Course" + (i + j) % 30, 1 + j % 6, GRADES[(i + j) % 5]));
+            }
+            students.add(student);
+        }
+        Path file = tempDir.resolve("windowed.snap");
+        RosterSnapshot.write(file, students);
+
+        for (long window : new long[] {96, 97, 4096}) {
+            assertSameStudents(students, RosterSnapshot.read(file, window));
+        }
+
+        Student large = new Student("S9999", "large");
+        for (int j = 0; j < 20; j++) {
+            large.enrollCourse(new Course("Course" + j, 3, "A"));
+        }
+        RosterSnapshot.write(file, List.of(large));
+        IOException e = assertThrows(IOException.class, () -> RosterSnapshot.read(file, 96));
+        assertTrue(e.getMessage().contains("mapping window"));
+    }
+
+    @Test
+    @DisplayName("Journal sequence: Stored by checkpoints, -1 otherwise and for version 1 files")
+    void testJournalSequence() throws IOException {
+        Path file = tempDir.resolve("checkpoint.snap");
+        List<Student> students = List.of(new Student("S001", "mohammed"));
+        RosterSnapshot.write(file, students);
+        assertEquals(-1, RosterSnapshot.readJournalSequence(file));
+
+        RosterSnapshot.write(file, students, 41);
+        assertEquals(41, RosterSnapshot.readJournalSequence(file));
+
+        // Drop the sequence field to get the version 1 layout
+        byte[] v2 = Files.readAllBytes(file);
+        ByteBuffer v1 = ByteBuffer.allocate(v2.length - 8).order(ByteOrder.LITTLE_ENDIAN);
+        v1.put(v2, 0, RosterSnapshot.V1_HEADER_SIZE);
+        v1.put(v2, RosterSnapshot.HEADER_SIZE, v2.length - RosterSnapshot.HEADER_SIZE);
+        v1.putInt(4, 1);
+        v1.putLong(24, v1.getLong(24) - 8);
+        Files.write(file, v1.array());
+        assertEquals(-1, RosterSnapshot.readJournalSequence(file));
+        assertSameStudents(students, RosterSnapshot.read(file));
+    }
+
+    @Test
+    @DisplayName("Writer: Writing after close should throw")
+    void testWriteAfterClose() throws IOException {
+        RosterSnapshot.Writer writer = new RosterSnapshot.Writer(tempDir.resolve("closed.snap"));
+        writer.close();
+        assertThrows(IllegalStateException.class, () -> writer.write(new Student("S001", "mohammed")));
+    }
+}
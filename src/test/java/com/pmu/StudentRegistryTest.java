@@ -0,0 +1,111 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for StudentRegistry
+ * Tests lookups, growth, duplicate ids and the shared default id "0000"
+ */
+@DisplayName("StudentRegistry Tests")
+class StudentRegistryTest {
+
+    private StudentRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new StudentRegistry();
+    }
+
+    @Test
+    @DisplayName("get: Registered students should be found by id")
+    void testRegisterAndGet() {
+        Student first = new Student("S001", "mohammed");
+        Student second = new Student("S002", "ahmad");
+        assertTrue(registry.register(first));
+        assertTrue(registry.register(second));
+
+        assertSame(first, registry.get("S001"));
+        assertSame(second, registry.get("S002"));
+        assertNull(registry.get("S003"));
+        assertNull(registry.get(null));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    @DisplayName("register: Many students should survive resizing")
+    void testGrowth() {
+        for (int i = 0; i < 10_000; i++) {
+            registry.register(new Student(String.format("%04d", i + 1), "student" + i));
+        }
+        assertEquals(10_000, registry.size());
+        for (int i = 0; i < 10_000; i++) {
+            String id = String.format("%04d", i + 1);
+            assertEquals(id, registry.get(id).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("register: A different student with a taken id should throw")
+    void testDuplicateId() {
+        registry.register(new Student("S001", "mohammed"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(new Student("S001", "other")));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("register: The same instance twice should be a no-op")
+    void testSameInstanceTwice() {
+        Student student = new Student("S001", "mohammed");
+        assertTrue(registry.register(student));
+        assertFalse(registry.register(student));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("Default id: Students defaulted to '0000' should all be kept")
+    void testDefaultIdCollisions() {
+        Student first = new Student(null, "mohammed");
+        Student second = new Student("", "ahmad");
+        Student third = new Student("0000", "hadi");
+        registry.register(first);
+        registry.register(second);
+        for (int i = 0; i < 100; i++) {
+            registry.register(new Student("S" + i, "filler"));
+        }
+        registry.register(third);
+
+        assertEquals(3, registry.count("0000"));
+        assertSame(first, registry.get("0000"));
+        assertEquals(List.of(first, second, third), registry.getAll("0000"));
+        assertFalse(registry.register(second));
+        assertEquals(103, registry.size());
+    }
+
+    @Test
+    @DisplayName("Default id: Many defaulted students should take a single table slot")
+    void testManyDefaultIds() {
+        for (int i = 0; i < 40_000; i++) {
+            registry.register(new Student(null, "student" + i));
+        }
+        Student real = new Student("S001", "mohammed");
+        registry.register(real);
+
+        assertEquals(40_001, registry.size());
+        assertEquals(40_000, registry.count("0000"));
+        assertEquals("student39999", registry.getAll("0000").get(39_999).getName());
+        assertSame(real, registry.get("S001"));
+        assertEquals(16, registry.getCapacity());
+    }
+
+    @Test
+    @DisplayName("Constructor: Negative expected size should throw")
+    void testNegativeExpectedSize() {
+        assertThrows(IllegalArgumentException.class, () -> new StudentRegistry(-1));
+    }
+}
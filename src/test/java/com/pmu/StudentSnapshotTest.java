@@ -0,0 +1,90 @@
+package com.pmu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for StudentSnapshot and its persistent course vector
+ * Tests immutability, structural sharing and GPA parity with Student
+ */
+@DisplayName("StudentSnapshot Tests")
+class StudentSnapshotTest {
+
+    @Test
+    @DisplayName("withCourse: Older snapshots should be unchanged")
+    void testImmutability() {
+        StudentSnapshot empty = StudentSnapshot.of("S001", "mohammed");
+        StudentSnapshot one = empty.withCourse(new Course("Math", 3, "A"));
+        StudentSnapshot two = one.withCourse(new Course("Java", 3, "C"));
+
+        assertEquals(0, empty.getCourses().size());
+        assertEquals(1, one.getCourses().size());
+        assertEquals(2, two.getCourses().size());
+        assertEquals(4.0, one.calculateGPA());
+        assertEquals(3.0, two.calculateGPA());
+        assertSame(two, two.withCourse(null));
+        assertThrows(UnsupportedOperationException.class, () -> two.getCourses().add(new Course("Art", 3, "A")));
+    }
+
+    @Test
+    @DisplayName("Defaults: Null id and name should match Student defaults")
+    void testDefaults() {
+        StudentSnapshot snapshot = StudentSnapshot.of(null, "");
+        assertEquals(Student.DEFAULT_ID, snapshot.getId());
+        assertEquals("Unknown", snapshot.getName());
+        assertEquals(0.0, snapshot.calculateGPA());
+    }
+
+    @Test
+    @DisplayName("Parity: Snapshot and Student should agree on courses and GPA")
+    void testParityWithStudent() {
+        Student student = new Student("S001", "mohammed");
+        String[] letters = {"A", "B", "C", "D", "F"};
+        for (int i = 0; i < 50; i++) {
+            student.enrollCourse(new Course("C" + i, 1 + i % 6, letters[i % 5]));
+        }
+        StudentSnapshot snapshot = StudentSnapshot.of(student);
+
+        assertEquals(student.getCourses(), snapshot.getCourses());
+        assertEquals(student.calculateGPA(), snapshot.calculateGPA());
+        assertEquals(student.getTotalCredits(), snapshot.getTotalCredits());
+        assertEquals(student.getTotalQualityPoints(), snapshot.getTotalQualityPoints());
+
+        Student copy = snapshot.toStudent();
+        assertEquals(student.getCourses(), copy.getCourses());
+        assertEquals(student.calculateGPA(), copy.calculateGPA());
+    }
+
+    @Test
+    @DisplayName("Course vector: Every version should keep its own elements across trie levels")
+    void testVectorAcrossLevels() {
+        // 33_000 courses pushes the trie past two levels (32 * 32 * 32 = 32768)
+        List<Course> expected = new ArrayList<>();
+        List<CourseVector> versions = new ArrayList<>();
+        CourseVector vector = CourseVector.EMPTY;
+        for (int i = 0; i < 33_000; i++) {
+            Course course = Course.of("C" + (i % 100), 3, "A");
+            expected.add(course);
+            vector = vector.append(course);
+            if (i % 1000 == 0 || i == 31 || i == 32 || i == 1056 || i == 32_800) {
+                versions.add(vector);
+            }
+        }
+
+        assertEquals(expected.size(), vector.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), vector.get(i));
+        }
+        for (CourseVector version : versions) {
+            assertEquals(expected.subList(0, version.size()), version);
+        }
+        CourseVector last = vector;
+        assertThrows(IndexOutOfBoundsException.class, () -> last.get(33_000));
+        assertThrows(IndexOutOfBoundsException.class, () -> last.get(-1));
+    }
+}
@@ -0,0 +1,143 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for StudentStore
+ * Checks that the columnar layout gives the same ids, names, courses and GPAs as Student
+ */
+@DisplayName("StudentStore Tests")
+class StudentStoreTest {
+
+    private StudentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new StudentStore();
+    }
+
+    @Test
+    @DisplayName("addStudent: Should apply the Student constructor defaults")
+    void testAddStudentDefaults() {
+        int index = store.addStudent(null, "");
+        assertEquals("0000", store.getId(index));
+        assertEquals("Unknown", store.getName(index));
+    }
+
+    @Test
+    @DisplayName("enroll: Should apply the Course constructor defaults")
+    void testEnrollDefaults() {
+        int index = store.addStudent("S001", "mohammed");
+        store.enroll(index, "", 9, "Z");
+
+        Course course = store.toStudent(index).getCourses().get(0);
+        assertEquals("Unknown", course.getCourseName());
+        assertEquals(3, course.getCreditHours());
+        assertEquals("F", course.getLetterGrade());
+    }
+
+    @Test
+    @DisplayName("computeAllGpas: Should match Student.calculateGPA for interleaved enrollments")
+    void testComputeAllGpasMatchesStudent() {
+        Student first = new Student("S001", "mohammed");
+        Student second = new Student("S002", "ahmad");
+        Student empty = new Student("S003", "hadi");
+
+        int a = store.addStudent(first.getId(), first.getName());
+        int b = store.addStudent(second.getId(), second.getName());
+        store.addStudent(empty.getId(), empty.getName());
+
+        Course[] courses = {
+                new Course("Math", 3, "A"), new Course("English", 4, "B"),
+                new Course("Science", 2, "F"), new Course("History", 5, "C"),
+                new Course("Art", 1, "D")
+        };
+        for (int i = 0; i < courses.length; i++) {
+            Student target = (i % 2 == 0) ? first : second;
+            target.enrollCourse(courses[i]);
+            store.enroll(i % 2 == 0 ? a : b, courses[i]);
+        }
+
+        double[] gpas = new double[3];
+        store.computeAllGpas(gpas);
+        assertEquals(first.calculateGPA(), gpas[0]);
+        assertEquals(second.calculateGPA(), gpas[1]);
+        assertEquals(0.0, gpas[2]);
+        assertEquals(first.calculateGPA(), store.computeGpa(a));
+        assertEquals(second.calculateGPA(), store.computeGpa(b));
+
+        // Regrouping the rows must keep each student's course order, and later enrollments
+        Course late = new Course("Music", 2, "A");
+        first.enrollCourse(late);
+        store.enroll(a, late);
+        store.computeAllGpas(gpas);
+        assertEquals(first.calculateGPA(), gpas[0]);
+        assertEquals(second.calculateGPA(), gpas[1]);
+        List<Course> stored = store.toStudent(a).getCourses();
+        assertEquals(first.getCourses().size(), stored.size());
+        for (int i = 0; i < stored.size(); i++) {
+            assertEquals(first.getCourses().get(i).getCourseName(), stored.get(i).getCourseName());
+        }
+    }
+
+    @Test
+    @DisplayName("from/toStudent: Round trip should keep id, name, course order and GPA")
+    void testRoundTrip() {
+        Student original = new Student("S001", "mohammed");
+        original.enrollCourse(new Course("Math", 3, "A"));
+        original.enrollCourse(new Course("English", 4, "B"));
+        original.enrollCourse(new Course("Math", 2, "F"));
+
+        StudentStore copy = StudentStore.from(List.of(original));
+        Student view = copy.asStudents().get(0);
+
+        assertEquals(original.getId(), view.getId());
+        assertEquals(original.getName(), view.getName());
+        assertEquals(3, view.getCourses().size());
+        for (int i = 0; i < 3; i++) {
+            Course expected = original.getCourses().get(i);
+            Course actual = view.getCourses().get(i);
+            assertEquals(expected.getCourseName(), actual.getCourseName());
+            assertEquals(expected.getCreditHours(), actual.getCreditHours());
+            assertEquals(expected.getLetterGrade(), actual.getLetterGrade());
+        }
+        assertEquals(original.calculateGPA(), view.calculateGPA());
+        assertEquals(2, copy.getCourseNameCount());
+    }
+
+    @Test
+    @DisplayName("Growth: Should keep working past the initial capacity")
+    void testGrowth() {
+        for (int i = 0; i < 100; i++) {
+            int index = store.addStudent("S" + i, "student" + i);
+            for (int j = 0; j < 5; j++) {
+                store.enroll(index, "Course" + j, 1 + (j % 6), j % 2 == 0 ? "A" : "C");
+            }
+        }
+        double[] gpas = new double[100];
+        store.computeAllGpas(gpas);
+
+        assertEquals(100, store.getStudentCount());
+        assertEquals(500, store.getEnrollmentCount());
+        assertEquals(store.toStudent(42).calculateGPA(), gpas[42]);
+    }
+
+    @Test
+    @DisplayName("computeAllGpas: Output array smaller than the cohort should throw")
+    void testComputeAllGpasTooSmall() {
+        store.addStudent("S001", "mohammed");
+        assertThrows(IllegalArgumentException.class, () -> store.computeAllGpas(new double[0]));
+    }
+
+    @Test
+    @DisplayName("getId: Unknown index should throw")
+    void testInvalidIndex() {
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getId(0));
+    }
+}
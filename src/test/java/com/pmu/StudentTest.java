@@ -269,4 +269,44 @@ class StudentTest {
 
         assertEquals(0.0, student.calculateGPA());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("calculateGPA: Should stay correct after each new enrollment")
+    void testCalculateGPAAfterEachEnrollment() {
+        student.enrollCourse(courseA);
+        assertEquals(4.0, student.calculateGPA());
+
+        student.enrollCourse(courseF);
+        assertEquals(12.0 / 5.0, student.calculateGPA(), 0.0001);
+
+        student.enrollCourse(null);
+        student.enrollCourse(courseB);
+        assertEquals(24.0 / 9.0, student.calculateGPA(), 0.0001);
+    }
+
+    // ============ Totals Tests ============
+
+    @Test
+    @DisplayName("Totals: Should track credits and quality points across enrollments")
+    void testTotals() {
+        assertEquals(0, student.getTotalCredits());
+        assertEquals(0.0, student.getTotalQualityPoints());
+
+        student.enrollCourse(courseA);
+        student.enrollCourse(courseB);
+        assertEquals(7, student.getTotalCredits());
+        assertEquals(24.0, student.getTotalQualityPoints());
+    }
+
+    @Test
+    @DisplayName("getCourses: Returned list should be read-only")
+    void testGetCoursesReadOnly() {
+        student.enrollCourse(courseA);
+        List<Course> courses = student.getCourses();
+
+        assertThrows(UnsupportedOperationException.class, () -> courses.add(courseB));
+        assertThrows(UnsupportedOperationException.class, () -> courses.remove(0));
+        assertThrows(UnsupportedOperationException.class, courses::clear);
+        assertEquals(4.0, student.calculateGPA());
+    }
+}
@@ -0,0 +1,135 @@
+package com.pmu;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for TranscriptCache
+ * Tests hits, invalidation, staleness detection and byte-budget eviction
+ */
+@DisplayName("TranscriptCache Tests")
+class TranscriptCacheTest {
+
+    private TranscriptCache cache;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TranscriptCache(1 << 20);
+        student = new Student("S001", "mohammed");
+        student.enrollCourse(new Course("Math", 3, "A"));
+        student.enrollCourse(new Course("Java", 4, "B"));
+    }
+
+    @Test
+    @DisplayName("get: Transcript should summarize the student")
+    void testTranscriptContents() {
+        TranscriptCache.Transcript transcript = cache.get(student);
+        assertEquals("S001", transcript.id());
+        assertEquals("mohammed", transcript.name());
+        assertEquals(2, transcript.courses().size());
+        assertEquals(7, transcript.totalCredits());
+        assertEquals(student.calculateGPA(), transcript.gpa());
+    }
+
+    @Test
+    @DisplayName("get: Repeated lookups should hit the cache")
+    void testHits() {
+        TranscriptCache.Transcript first = cache.get(student);
+        assertSame(first, cache.get(student));
+        assertSame(first, cache.get(student));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2.0 / 3, cache.getHitRate(), 0.0001);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Cohort: Enrolling through the cohort should invalidate the entry")
+    void testCohortInvalidation() {
+        Cohort cohort = new Cohort();
+        cohort.addListener(cache);
+        int ordinal = cohort.add(student);
+        cache.get(student);
+
+        cohort.enroll(ordinal, new Course("Art", 3, "F"));
+        assertEquals(1, cache.getInvalidationCount());
+        assertEquals(0, cache.size());
+        assertEquals(3, cache.get(student).courses().size());
+    }
+
+    @Test
+    @DisplayName("Staleness: Direct enrollCourse calls should not serve an old transcript")
+    void testStaleDetection() {
+        cache.get(student);
+        student.enrollCourse(new Course("Art", 3, "F"));
+
+        TranscriptCache.Transcript transcript = cache.get(student);
+        assertEquals(3, transcript.courses().size());
+        assertEquals(student.calculateGPA(), transcript.gpa());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Eviction: Least recently used entries should go when over budget")
+    void testEviction() {
+        Student a = new Student("S001", "a");
+        Student b = new Student("S002", "b");
+        Student c = new Student("S003", "c");
+        long entryBytes = TranscriptCache.estimateBytes(TranscriptCache.Transcript.of(a));
+        TranscriptCache small = new TranscriptCache(entryBytes * 2);
+
+        small.get(a);
+        small.get(b);
+        small.get(a);
+        small.get(c);
+
+        assertEquals(2, small.size());
+        assertEquals(1, small.getEvictionCount());
+        assertTrue(small.getEstimatedBytes() <= small.getMaxBytes());
+        // b was the least recently used, so it was evicted and a is still cached
+        small.get(a);
+        small.get(b);
+        assertEquals(2, small.getHitCount());
+        assertEquals(4, small.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Budget: Estimates should grow with courses but not with the Student's own Strings")
+    void testEstimateBytes() {
+        Student shortName = new Student("S1", "a");
+        Student longName = new Student("S0000000001", "a much longer student name");
+        assertEquals(TranscriptCache.estimateBytes(TranscriptCache.Transcript.of(shortName)),
+                TranscriptCache.estimateBytes(TranscriptCache.Transcript.of(longName)));
+
+        long empty = TranscriptCache.estimateBytes(TranscriptCache.Transcript.of(shortName));
+        shortName.enrollCourse(new Course("Math", 3, "A"));
+        assertTrue(TranscriptCache.estimateBytes(TranscriptCache.Transcript.of(shortName)) > empty);
+    }
+
+    @Test
+    @DisplayName("Budget: A transcript larger than the budget should not be cached")
+    void testOversizedEntry() {
+        TranscriptCache tiny = new TranscriptCache(16);
+        assertNotNull(tiny.get(student));
+        assertEquals(0, tiny.size());
+        assertEquals(0, tiny.getEstimatedBytes());
+    }
+
+    @Test
+    @DisplayName("invalidateAll: Should empty the cache and reset the byte estimate")
+    void testInvalidateAll() {
+        cache.get(student);
+        cache.get(new Student("S002", "ahmad"));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEstimatedBytes());
+        assertEquals(2, cache.getInvalidationCount());
+        assertThrows(IllegalArgumentException.class, () -> new TranscriptCache(0));
+    }
+}